@@ -2,12 +2,24 @@ package afric.remit.bankapp;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class BankappApplication {
 
+	// Enough for every bean and phase step of a full startup; drained once the report is built.
+	static final int STARTUP_STEP_CAPACITY = 8192;
+
 	public static void main(String[] args) {
-		SpringApplication.run(BankappApplication.class, args);
+		createApplication().run(args);
+	}
+
+	public static SpringApplication createApplication() {
+		SpringApplication application = new SpringApplication(BankappApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+		return application;
 	}
 
 }
@@ -0,0 +1,20 @@
+package afric.remit.bankapp.config;
+
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+// Only for the image build's class-data-sharing training run: start, load classes, exit.
+// Kept out of every deployed profile so no property can make a serving instance exit.
+@Configuration
+@Profile("cds-training")
+public class CdsTrainingConfig {
+
+    @Bean
+    ApplicationRunner exitAfterStart(ApplicationContext context) {
+        return args -> System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
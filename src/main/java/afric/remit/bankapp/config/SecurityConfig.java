@@ -0,0 +1,78 @@
+package afric.remit.bankapp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import afric.remit.bankapp.filter.JwtAuthenticationFilter;
+import afric.remit.bankapp.repository.UserRepository;
+import afric.remit.bankapp.util.JwtUtil;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Configuration
+public class SecurityConfig {
+
+    public static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+
+    // Usernames granted ADMIN_AUTHORITY, comma separated.
+    @Value("${security.admin-users:}")
+    private String adminUsers = "";
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+
+    @Bean
+    public UserDetailsService userDetailsService(UserRepository userRepository) {
+        Set<String> admins = Arrays.stream(adminUsers.split(","))
+            .map(String::trim)
+            .filter(name -> !name.isEmpty())
+            .collect(Collectors.toSet());
+        List<SimpleGrantedAuthority> adminAuthorities = Collections.singletonList(new SimpleGrantedAuthority(ADMIN_AUTHORITY));
+        return username -> userRepository.findByUsername(username)
+            .map(user -> new org.springframework.security.core.userdetails.User(
+                user.getUsername(), user.getPassword(),
+                admins.contains(user.getUsername()) ? adminAuthorities : Collections.emptyList()))
+            .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    }
+
+    // Bearer tokens from /api/login, with HTTP Basic kept for scripts. No session is created, so a
+    // revoked token cannot live on through a session cookie; CSRF protection guards cookie-based
+    // sessions and is off for the same reason.
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtUtil jwtUtil,
+            UserDetailsService userDetailsService) throws Exception {
+        http.csrf().disable()
+            .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            .and()
+            .authorizeRequests()
+                .antMatchers("/api/login", "/api/register", "/error").permitAll()
+                .anyRequest().authenticated()
+            .and()
+            .httpBasic()
+            .and()
+            .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, userDetailsService),
+                UsernamePasswordAuthenticationFilter.class);
+        return http.build();
+    }
+
+    @Bean
+    public AuthenticationManager authenticationManager(AuthenticationConfiguration configuration) throws Exception {
+        return configuration.getAuthenticationManager();
+    }
+}
@@ -0,0 +1,30 @@
+package afric.remit.bankapp.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import afric.remit.bankapp.filter.LoadSheddingFilter;
+import afric.remit.bankapp.service.AsyncCreditService;
+import afric.remit.bankapp.service.HotAccountService;
+import afric.remit.bankapp.service.fx.FxRateService;
+import afric.remit.bankapp.service.outbox.OutboxRelay;
+import afric.remit.bankapp.service.limiter.UserRateLimiter;
+import afric.remit.bankapp.service.token.TokenRevocationService;
+import afric.remit.bankapp.service.velocity.VelocityService;
+import javax.persistence.EntityManagerFactory;
+
+@Configuration
+public class StartupConfig {
+
+    // Beans that must exist from the start even under lazy initialization: scheduled jobs and
+    // background consumers never get requested by anyone, and the entity manager factory is
+    // bootstrapped in the background so the first request does not pay for it.
+    @Bean
+    static LazyInitializationExcludeFilter eagerBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(EntityManagerFactory.class,
+            AbstractEntityManagerFactoryBean.class, OutboxRelay.class, AsyncCreditService.class,
+            HotAccountService.class, UserRateLimiter.class, LoadSheddingFilter.class, FxRateService.class,
+            TokenRevocationService.class, VelocityService.class);
+    }
+}
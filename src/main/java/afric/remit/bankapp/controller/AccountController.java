@@ -1,18 +1,35 @@
 package afric.remit.bankapp.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import afric.remit.bankapp.service.UserService;
 import afric.remit.bankapp.util.JwtUtil;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import afric.remit.bankapp.dto.TransactionRequest;
 import org.springframework.security.core.Authentication;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.RollupGranularity;
+import afric.remit.bankapp.service.AccountOpeningService;
 import afric.remit.bankapp.service.AccountService;
+import afric.remit.bankapp.service.AsyncCreditService;
+import afric.remit.bankapp.service.DailyRollupService;
+import afric.remit.bankapp.service.HotAccountService;
 
 @RestController
 @RequestMapping("/api/account")
@@ -21,15 +38,111 @@ public class AccountController {
     @Autowired
     private AccountService accountService;
     
+    // Only exists with the database ledger.
+    @Autowired(required = false)
+    private HotAccountService hotAccountService;
+    
+    @Autowired
+    private AsyncCreditService asyncCreditService;
+    
+    @Autowired
+    private AccountOpeningService accountOpeningService;
+    
+    @Autowired
+    private DailyRollupService dailyRollupService;
+    
+    @Value("${ledger.store:jpa}")
+    private String ledgerStore = "jpa";
+    
+    @PostMapping("/open")
+    public ResponseEntity<?> open(Authentication authentication, @RequestParam(required = false) String currency) {
+        Account account = accountOpeningService.open(authentication.getName(), currency);
+        Map<String, String> body = new HashMap<>();
+        body.put("accountNumber", account.getAccountNumber());
+        body.put("currency", account.getCurrency());
+        return ResponseEntity.status(HttpStatus.CREATED).body(body);
+    }
+    
     @PostMapping("/credit")
     public ResponseEntity<?> credit(@RequestBody TransactionRequest request) {
         accountService.credit(request);
         return ResponseEntity.ok("Credit successful");
     }
     
+    @PostMapping("/credit/async")
+    public ResponseEntity<?> creditAsync(@RequestBody TransactionRequest request) {
+        if (request.getAccountNumber() == null || request.getAccountNumber().isEmpty()) {
+            return ResponseEntity.badRequest().body(Collections.singletonMap("message", "Account number is required"));
+        }
+        if (request.getAmount() == null) {
+            return ResponseEntity.badRequest().body(Collections.singletonMap("message", "Amount is required"));
+        }
+        if (request.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+            return ResponseEntity.badRequest().body(Collections.singletonMap("message", "Invalid amount"));
+        }
+        
+        Optional<String> trackingId = asyncCreditService.submit(request);
+        if (trackingId.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(Collections.singletonMap("message", "Credit intake is full, retry later"));
+        }
+        return ResponseEntity.accepted().body(Collections.singletonMap("trackingId", trackingId.get()));
+    }
+    
+    @GetMapping("/credit/status/{trackingId}")
+    public ResponseEntity<?> creditStatus(@PathVariable String trackingId) {
+        return asyncCreditService.status(trackingId)
+            .<ResponseEntity<?>>map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+    
     @PostMapping("/debit")
     public ResponseEntity<?> debit(@RequestBody TransactionRequest request) {
         accountService.debit(request);
         return ResponseEntity.ok("Debit successful");
     }
+    
+    @GetMapping("/{accountNumber}/summary")
+    public ResponseEntity<?> summary(@PathVariable String accountNumber,
+                                     @RequestParam(required = false) String from,
+                                     @RequestParam(required = false) String to,
+                                     @RequestParam(defaultValue = "DAY") RollupGranularity granularity) {
+        if (!databaseLedger()) {
+            return notWithMemoryLedger();
+        }
+        LocalDate end = to == null ? LocalDate.now() : LocalDate.parse(to);
+        LocalDate start = from == null ? end.minusDays(29) : LocalDate.parse(from);
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().body(Collections.singletonMap("message", "from must not be after to"));
+        }
+        return ResponseEntity.ok(dailyRollupService.summary(accountNumber, start, end, granularity));
+    }
+    
+    @PostMapping("/{accountNumber}/buckets")
+    public ResponseEntity<?> enableBuckets(@PathVariable String accountNumber, @RequestParam int slots) {
+        if (!databaseLedger()) {
+            return notWithMemoryLedger();
+        }
+        hotAccountService.enable(accountNumber, slots);
+        return ResponseEntity.ok("Balance buckets enabled");
+    }
+    
+    @DeleteMapping("/{accountNumber}/buckets")
+    public ResponseEntity<?> disableBuckets(@PathVariable String accountNumber) {
+        if (!databaseLedger()) {
+            return notWithMemoryLedger();
+        }
+        hotAccountService.disable(accountNumber);
+        return ResponseEntity.ok("Balance buckets disabled");
+    }
+    
+    // Rollups and balance buckets are kept in the database; the in-memory ledger has neither.
+    private boolean databaseLedger() {
+        return "jpa".equals(ledgerStore);
+    }
+    
+    private static ResponseEntity<?> notWithMemoryLedger() {
+        return ResponseEntity.badRequest().body(Collections.singletonMap("message", "Not available with ledger.store=memory"));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package afric.remit.bankapp.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import afric.remit.bankapp.model.AccrualKind;
+import afric.remit.bankapp.service.AccrualService;
+import java.time.YearMonth;
+
+@RestController
+@ConditionalOnProperty(name = "ledger.store", havingValue = "jpa", matchIfMissing = true)
+@RequestMapping("/api/accruals")
+public class AccrualController {
+
+    @Autowired
+    private AccrualService accrualService;
+
+    @PostMapping("/{kind}")
+    public ResponseEntity<?> run(@PathVariable AccrualKind kind, @RequestParam String period) {
+        return ResponseEntity.ok(accrualService.run(kind, YearMonth.parse(period)));
+    }
+}
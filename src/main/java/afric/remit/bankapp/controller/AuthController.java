@@ -1,16 +1,22 @@
 package afric.remit.bankapp.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import io.jsonwebtoken.JwtException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import afric.remit.bankapp.service.UserService;
+import afric.remit.bankapp.service.token.TokenRevocationService;
 import afric.remit.bankapp.util.JwtUtil;
 import afric.remit.bankapp.dto.RegisterRequest;
 import afric.remit.bankapp.dto.LoginRequest;
 import org.springframework.security.core.Authentication;
+import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 
 
@@ -24,6 +30,9 @@ public class AuthController {
     @Autowired
     private JwtUtil jwtUtil;
     
+    @Autowired
+    private TokenRevocationService revocationService;
+    
     @PostMapping("/register")
     public ResponseEntity<?> register(@RequestBody RegisterRequest request) {
         userService.register(request);
@@ -38,4 +47,30 @@ public class AuthController {
             put("token", token);
         }});
     }
+    
+    // Revokes the presented token until it would have expired anyway.
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestHeader(value = "Authorization", required = false) String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return ResponseEntity.badRequest().body(Collections.singletonMap("message", "Bearer token is required"));
+        }
+        String token = authorization.substring("Bearer ".length());
+        String tokenId;
+        Date expiration;
+        try {
+            tokenId = jwtUtil.extractTokenId(token);
+            expiration = jwtUtil.extractExpiration(token);
+        } catch (JwtException e) {
+            return ResponseEntity.badRequest().body(Collections.singletonMap("message", "Invalid token"));
+        }
+        if (tokenId == null) {
+            return ResponseEntity.badRequest().body(Collections.singletonMap("message", "Token has no id and cannot be revoked"));
+        }
+        try {
+            revocationService.revoke(tokenId, expiration.getTime());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Collections.singletonMap("message", e.getMessage()));
+        }
+        return ResponseEntity.ok("Logged out successfully");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package afric.remit.bankapp.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import afric.remit.bankapp.model.ImportFormat;
+import afric.remit.bankapp.service.ImportService;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.Collections;
+
+@RestController
+@ConditionalOnProperty(name = "ledger.store", havingValue = "jpa", matchIfMissing = true)
+@RequestMapping("/api/imports")
+public class ImportController {
+
+    @Autowired
+    private ImportService importService;
+
+    // The request body is the file itself, streamed to disk rather than buffered.
+    @PostMapping("/{name}")
+    public ResponseEntity<?> start(@PathVariable String name, @RequestParam ImportFormat format,
+                                   HttpServletRequest request) throws IOException {
+        try {
+            importService.store(name, format, request.getInputStream());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Collections.singletonMap("message", e.getMessage()));
+        }
+        return ResponseEntity.ok(importService.run(name, format));
+    }
+
+    @PostMapping("/{name}/resume")
+    public ResponseEntity<?> resume(@PathVariable String name, @RequestParam ImportFormat format) {
+        return ResponseEntity.ok(importService.run(name, format));
+    }
+}
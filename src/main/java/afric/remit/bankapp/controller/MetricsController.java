@@ -0,0 +1,83 @@
+package afric.remit.bankapp.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import afric.remit.bankapp.dto.LoadSheddingStats;
+import afric.remit.bankapp.service.StartupReportService;
+import afric.remit.bankapp.service.concurrency.ConcurrencyMetrics;
+import afric.remit.bankapp.service.fx.FxRateService;
+import afric.remit.bankapp.service.limiter.AdaptiveConcurrencyLimiter;
+import afric.remit.bankapp.service.limiter.UserRateLimiter;
+import afric.remit.bankapp.service.outbox.OutboxRelay;
+import afric.remit.bankapp.service.token.TokenRevocationService;
+import afric.remit.bankapp.service.velocity.VelocityService;
+
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    @Autowired
+    private ConcurrencyMetrics concurrencyMetrics;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @Autowired
+    private UserRateLimiter rateLimiter;
+
+    @Autowired
+    private StartupReportService startupReportService;
+
+    @Autowired
+    private FxRateService fxRateService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private VelocityService velocityService;
+
+    @GetMapping("/concurrency")
+    public ResponseEntity<?> concurrency() {
+        return ResponseEntity.ok(concurrencyMetrics.snapshot());
+    }
+
+    @GetMapping("/outbox")
+    public ResponseEntity<?> outbox() {
+        return ResponseEntity.ok(outboxRelay.stats());
+    }
+
+    @GetMapping("/load-shedding")
+    public ResponseEntity<?> loadShedding() {
+        return ResponseEntity.ok(new LoadSheddingStats(concurrencyLimiter.getLimit(), concurrencyLimiter.getInFlight(),
+            concurrencyLimiter.getAccepted(), concurrencyLimiter.getRejected(), rateLimiter.getRejected(),
+            concurrencyLimiter.getBaselineLatencyMicros(), concurrencyLimiter.getLastLatencyMicros(),
+            rateLimiter.getPermitsPerSecond(), rateLimiter.getBurst(), rateLimiter.getTrackedCallers()));
+    }
+
+    @GetMapping("/startup")
+    public ResponseEntity<?> startup() {
+        return ResponseEntity.ok(startupReportService.report());
+    }
+
+    @GetMapping("/fx")
+    public ResponseEntity<?> fx() {
+        return ResponseEntity.ok(fxRateService.stats());
+    }
+
+    @GetMapping("/tokens")
+    public ResponseEntity<?> tokens() {
+        return ResponseEntity.ok(tokenRevocationService.stats());
+    }
+
+    @GetMapping("/velocity")
+    public ResponseEntity<?> velocity() {
+        return ResponseEntity.ok(velocityService.stats());
+    }
+}
@@ -0,0 +1,23 @@
+package afric.remit.bankapp.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import afric.remit.bankapp.service.ReconciliationService;
+
+@RestController
+@ConditionalOnProperty(name = "ledger.store", havingValue = "jpa", matchIfMissing = true)
+@RequestMapping("/api/reconciliation")
+public class ReconciliationController {
+
+    @Autowired
+    private ReconciliationService reconciliationService;
+
+    @PostMapping
+    public ResponseEntity<?> reconcile() {
+        return ResponseEntity.ok(reconciliationService.reconcile());
+    }
+}
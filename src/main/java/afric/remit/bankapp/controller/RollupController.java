@@ -0,0 +1,23 @@
+package afric.remit.bankapp.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import afric.remit.bankapp.service.RollupRebuildService;
+
+@RestController
+@ConditionalOnProperty(name = "ledger.store", havingValue = "jpa", matchIfMissing = true)
+@RequestMapping("/api/rollups")
+public class RollupController {
+
+    @Autowired
+    private RollupRebuildService rollupRebuildService;
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<?> rebuild() {
+        return ResponseEntity.ok(rollupRebuildService.rebuild());
+    }
+}
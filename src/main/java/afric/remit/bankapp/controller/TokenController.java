@@ -0,0 +1,37 @@
+package afric.remit.bankapp.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import afric.remit.bankapp.config.SecurityConfig;
+import afric.remit.bankapp.service.token.TokenRevocationService;
+import java.util.Collections;
+
+@RestController
+@RequestMapping("/api/tokens")
+public class TokenController {
+
+    @Autowired
+    private TokenRevocationService revocationService;
+
+    // Revokes a token by its id; the entry is kept for the longest lifetime a token can have.
+    @PostMapping("/{tokenId}/revoke")
+    public ResponseEntity<?> revoke(Authentication authentication, @PathVariable String tokenId) {
+        if (authentication == null || authentication.getAuthorities().stream()
+                .noneMatch(authority -> SecurityConfig.ADMIN_AUTHORITY.equals(authority.getAuthority()))) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(Collections.singletonMap("message", "Administrator role required"));
+        }
+        try {
+            revocationService.revoke(tokenId);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(Collections.singletonMap("message", e.getMessage()));
+        }
+        return ResponseEntity.ok("Token revoked");
+    }
+}
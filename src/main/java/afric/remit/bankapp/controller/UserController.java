@@ -0,0 +1,22 @@
+package afric.remit.bankapp.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import afric.remit.bankapp.service.AccountOverviewService;
+
+@RestController
+@RequestMapping("/api/users")
+public class UserController {
+
+    @Autowired
+    private AccountOverviewService accountOverviewService;
+
+    @GetMapping("/me/accounts")
+    public ResponseEntity<?> myAccounts(Authentication authentication) {
+        return ResponseEntity.ok(accountOverviewService.getOverview(authentication.getName()));
+    }
+}
@@ -0,0 +1,17 @@
+package afric.remit.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountOverview {
+    private String accountNumber;
+    private BigDecimal balance;
+    private List<TransactionSummary> recentTransactions;
+    private List<MonthlyTotal> monthlyTotals;
+}
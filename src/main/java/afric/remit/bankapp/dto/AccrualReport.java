@@ -0,0 +1,17 @@
+package afric.remit.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccrualReport {
+    private String runKey;
+    private int chunksProcessed;
+    private int chunksSkipped;
+    private int chunksFailed;
+    private long entriesPosted;
+    private long elapsedMillis;
+}
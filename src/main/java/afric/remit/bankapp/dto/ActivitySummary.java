@@ -0,0 +1,20 @@
+package afric.remit.bankapp.dto;
+
+import afric.remit.bankapp.model.RollupGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivitySummary {
+    private String accountNumber;
+    private String currency;
+    private LocalDate from;
+    private LocalDate to;
+    private RollupGranularity granularity;
+    private List<PeriodTotal> periods;
+}
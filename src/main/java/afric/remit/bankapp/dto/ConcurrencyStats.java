@@ -0,0 +1,18 @@
+package afric.remit.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConcurrencyStats {
+    private String strategy;
+    private long attempts;
+    private long commits;
+    private long conflicts;
+    private long retries;
+    private long exhausted;
+    private long lockWaitMillis;
+}
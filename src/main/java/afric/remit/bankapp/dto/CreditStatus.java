@@ -0,0 +1,27 @@
+package afric.remit.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreditStatus {
+
+    public enum State {
+        PENDING,
+        APPLIED,
+        FAILED
+    }
+
+    private String trackingId;
+    private String accountNumber;
+    private BigDecimal amount;
+    private State state;
+    private String message;
+    private LocalDateTime submittedAt;
+    private LocalDateTime completedAt;
+}
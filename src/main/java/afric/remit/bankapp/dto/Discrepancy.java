@@ -0,0 +1,17 @@
+package afric.remit.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Discrepancy {
+    private Long accountId;
+    private String accountNumber;
+    private BigDecimal accountBalance;
+    private BigDecimal journalBalance;
+    private BigDecimal difference;
+}
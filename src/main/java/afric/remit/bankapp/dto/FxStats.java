@@ -0,0 +1,19 @@
+package afric.remit.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FxStats {
+    private String baseCurrency;
+    private List<String> currencies;
+    private long version;
+    private LocalDateTime loadedAt;
+    private long refreshFailures;
+    private String lastError;
+}
@@ -0,0 +1,20 @@
+package afric.remit.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReport {
+    private String importName;
+    private long resumedFromLine;
+    private long rowsProcessed;
+    private long usersImported;
+    private long accountsImported;
+    private long rowsFailed;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private String errorFile;
+}
@@ -0,0 +1,18 @@
+package afric.remit.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+
+// One input record; a row without a password adds its account to an already existing user.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRow {
+    private String username;
+    private String password;
+    private String email;
+    private String accountNumber;
+    private BigDecimal balance;
+}
@@ -0,0 +1,18 @@
+package afric.remit.bankapp.dto;
+
+import afric.remit.bankapp.model.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerEntry {
+    private BigDecimal amount;
+    private String currency;
+    private TransactionType type;
+    private LocalDateTime postedAt;
+}
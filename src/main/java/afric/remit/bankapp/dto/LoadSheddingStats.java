@@ -0,0 +1,21 @@
+package afric.remit.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadSheddingStats {
+    private int concurrencyLimit;
+    private int inFlight;
+    private long accepted;
+    private long rejectedConcurrency;
+    private long rejectedRate;
+    private long baselineLatencyMicros;
+    private long lastLatencyMicros;
+    private double permitsPerSecond;
+    private int burst;
+    private int trackedCallers;
+}
@@ -0,0 +1,15 @@
+package afric.remit.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyTotal {
+    private String month;
+    private BigDecimal credits;
+    private BigDecimal debits;
+}
@@ -0,0 +1,18 @@
+package afric.remit.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxStats {
+    private long delivered;
+    private long batches;
+    private long failures;
+    private long backlog;
+    private long lagMillis;
+    private double eventsPerSecond;
+    private String lastError;
+}
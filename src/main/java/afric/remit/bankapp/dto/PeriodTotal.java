@@ -0,0 +1,17 @@
+package afric.remit.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PeriodTotal {
+    private String period;
+    private BigDecimal credits;
+    private BigDecimal debits;
+    private long creditCount;
+    private long debitCount;
+}
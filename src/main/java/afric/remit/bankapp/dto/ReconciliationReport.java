@@ -0,0 +1,19 @@
+package afric.remit.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconciliationReport {
+    private long accountsChecked;
+    private int chunksProcessed;
+    private long elapsedMillis;
+    private double accountsPerSecond;
+    // All discrepancies found; the list holds at most reconciliation.max-discrepancies of them.
+    private long discrepancyCount;
+    private List<Discrepancy> discrepancies;
+}
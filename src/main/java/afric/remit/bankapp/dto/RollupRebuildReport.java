@@ -0,0 +1,15 @@
+package afric.remit.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RollupRebuildReport {
+    private int chunksProcessed;
+    private int chunksFailed;
+    private long rowsWritten;
+    private long elapsedMillis;
+}
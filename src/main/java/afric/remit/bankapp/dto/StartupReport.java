@@ -0,0 +1,17 @@
+package afric.remit.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StartupReport {
+    private List<String> activeProfiles;
+    private long jvmStartToReadyMillis;
+    private int beansInstantiated;
+    private List<StartupTiming> phases;
+    private List<StartupTiming> slowestBeans;
+}
@@ -0,0 +1,15 @@
+package afric.remit.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevocationStats {
+    private int revokedTokens;
+    private int capacity;
+    private long persistFailures;
+    private String lastError;
+}
@@ -7,6 +7,8 @@ import java.math.BigDecimal;
 public class TransactionRequest {
     private String accountNumber;
     private BigDecimal amount;
+    // Optional; credits in another currency are converted into the account's currency.
+    private String currency;
 
     // Getters and Setters
     public String getAccountNumber() {
@@ -0,0 +1,18 @@
+package afric.remit.bankapp.dto;
+
+import afric.remit.bankapp.model.TransactionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionSummary {
+    private Long id;
+    private BigDecimal amount;
+    private TransactionType type;
+    private LocalDateTime transactionDate;
+}
@@ -0,0 +1,17 @@
+package afric.remit.bankapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VelocityStats {
+    private List<String> rules;
+    private long bucketMillis;
+    private int trackedAccounts;
+    private long rejected;
+    private long rebuiltDebits;
+}
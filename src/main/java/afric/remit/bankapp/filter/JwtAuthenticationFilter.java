@@ -0,0 +1,73 @@
+package afric.remit.bankapp.filter;
+
+import io.jsonwebtoken.JwtException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+import afric.remit.bankapp.util.JwtUtil;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Authenticates requests that carry an {@code Authorization: Bearer} token from {@code /api/login}.
+ * A token that is malformed, expired, revoked or names an unknown user is answered with 401 at
+ * once rather than passed on, so it cannot fall through to another way of signing in.
+ * Requests without a bearer token are left to the rest of the security chain.
+ *
+ * Created by {@link afric.remit.bankapp.config.SecurityConfig} inside the security chain only;
+ * it is not a bean, so it is not registered a second time as a plain servlet filter.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final UserDetailsService userDetailsService;
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+        this.jwtUtil = jwtUtil;
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String authorization = request.getHeader("Authorization");
+        if (authorization == null || !authorization.startsWith(BEARER)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        String token = authorization.substring(BEARER.length());
+        UserDetails user;
+        try {
+            user = userDetailsService.loadUserByUsername(jwtUtil.extractUsername(token));
+            if (!jwtUtil.validateToken(token, user)) {
+                user = null;
+            }
+        } catch (JwtException | IllegalArgumentException | UsernameNotFoundException e) {
+            user = null;
+        }
+        if (user == null) {
+            SecurityContextHolder.clearContext();
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"message\":\"Invalid or revoked token\"}");
+            return;
+        }
+        UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+        authentication.setDetails(detailsSource.buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        chain.doFilter(request, response);
+    }
+}
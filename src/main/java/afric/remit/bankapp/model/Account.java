@@ -2,33 +2,71 @@ package afric.remit.bankapp.model;
 
 import java.math.BigDecimal;
 import java.util.List;
+import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
 import javax.persistence.ManyToOne;
 import javax.persistence.JoinColumn;
+import javax.persistence.Version;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 @Entity
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "account")
+@NaturalIdCache(region = "account-number")
 public class Account {
+    public static final String LEGACY_CURRENCY = "USD";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
+    @NaturalId
     private String accountNumber;
     private BigDecimal balance;
+
+    // ISO 4217 code. Every path that opens accounts sets fx.base-currency explicitly; this default only
+    // fills rows written before currencies existed and accounts built with the currency-less constructor.
+    @Column(length = 3, nullable = false)
+    @ColumnDefault("'" + LEGACY_CURRENCY + "'")
+    private String currency = LEGACY_CURRENCY;
+
+    @Version
+    private long version;
+
+    @Enumerated(EnumType.STRING)
+    private AccountClass accountClass = AccountClass.RETAIL;
+
+    // Number of BalanceBucket slots credits are spread over; 0 keeps the whole balance on this row.
+    private int balanceBuckets;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User user;
     
     @OneToMany(mappedBy = "account")
+    @BatchSize(size = 50)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<AccountingJournal> transactions;
 
     public Account(String accountNumber, BigDecimal balance, User user) {
@@ -37,6 +75,11 @@ public class Account {
         this.user = user;
     }
 
+    public Account(String accountNumber, BigDecimal balance, String currency, User user) {
+        this(accountNumber, balance, user);
+        this.currency = currency;
+    }
+
     public String getAccountNumber() {
         return accountNumber;
     }
@@ -0,0 +1,6 @@
+package afric.remit.bankapp.model;
+
+public enum AccountClass {
+    RETAIL,
+    MERCHANT
+}
@@ -2,20 +2,27 @@ package afric.remit.bankapp.model;
 
 import java.math.BigDecimal;
 import java.util.List;
+import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import java.time.LocalDateTime;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.OneToMany;
 import javax.persistence.ManyToOne;
 import javax.persistence.JoinColumn;
+import javax.persistence.Table;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import afric.remit.bankapp.model.TransactionType;
 
 @Entity
+@Table(indexes = @Index(columnList = "transactionDate"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,9 +33,20 @@ public class AccountingJournal {
     private BigDecimal amount;
     private LocalDateTime transactionDate;
     private TransactionType type;
+    // Currency of amount, always the account's; the source columns are only set for converted credits.
+    @Column(length = 3)
+    private String currency;
+    private BigDecimal sourceAmount;
+    @Column(length = 3)
+    private String sourceCurrency;
+    // Cross rates carry 16 significant digits (DECIMAL64); scale 24 keeps all of them for rates down to 1e-8.
+    @Column(precision = 38, scale = 24)
+    private BigDecimal fxRate;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Account account;
 
     public AccountingJournal(BigDecimal amount, LocalDateTime transactionDate, TransactionType type, Account account) {
@@ -36,6 +54,7 @@ public class AccountingJournal {
         this.transactionDate = transactionDate;
         this.type = type;
         this.account = account;
+        this.currency = account == null ? null : account.getCurrency();
     }
 
     public BigDecimal getAmount() {
@@ -0,0 +1,37 @@
+package afric.remit.bankapp.model;
+
+import java.time.LocalDateTime;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+// Checkpoint row written in the same transaction as the postings of one chunk of an accrual run.
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"runKey", "fromId"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccrualChunk {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private String runKey;
+    private Long fromId;
+    private Long toId;
+    private int entriesPosted;
+    private LocalDateTime completedAt;
+
+    public AccrualChunk(String runKey, Long fromId, Long toId, int entriesPosted, LocalDateTime completedAt) {
+        this.runKey = runKey;
+        this.fromId = fromId;
+        this.toId = toId;
+        this.entriesPosted = entriesPosted;
+        this.completedAt = completedAt;
+    }
+}
@@ -0,0 +1,44 @@
+package afric.remit.bankapp.model;
+
+import java.math.BigDecimal;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.ToString;
+
+// One sub-balance slot of a hot account; the account's balance is its own column plus all of its slots.
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"account_id", "slot"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceBucket {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Account account;
+
+    private int slot;
+    private BigDecimal balance;
+
+    public BalanceBucket(Account account, int slot, BigDecimal balance) {
+        this.account = account;
+        this.slot = slot;
+        this.balance = balance;
+    }
+}
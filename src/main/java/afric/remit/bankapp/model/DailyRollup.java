@@ -0,0 +1,35 @@
+package afric.remit.bankapp.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+// Running total of one account's entries of one type on one day. Accounts with balance buckets
+// spread their rows over stripes the same way, so concurrent credits do not queue on one row.
+@Entity
+@Table(name = "daily_rollup",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"accountId", "rollup_day", "type", "stripe"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long accountId;
+    @Column(name = "rollup_day")
+    private LocalDate day;
+    private TransactionType type;
+    private int stripe;
+    private BigDecimal total;
+    private long entryCount;
+}
@@ -0,0 +1,27 @@
+package afric.remit.bankapp.model;
+
+import java.time.LocalDateTime;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+// Progress of a bulk import, committed with each batch so a rerun continues after the last committed line.
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportCheckpoint {
+    @Id
+    private String importName;
+    private long linesCommitted;
+    private long usersImported;
+    private long accountsImported;
+    private long rowsFailed;
+    private LocalDateTime updatedAt;
+
+    public ImportCheckpoint(String importName) {
+        this.importName = importName;
+    }
+}
@@ -0,0 +1,43 @@
+package afric.remit.bankapp.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+// Written in the same transaction as its journal entry; the relay claims it until claimedUntil, publishes it
+// and stamps dispatchedAt.
+@Entity
+@Table(name = "ledger_outbox", indexes = @Index(columnList = "dispatchedAt, id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerOutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(unique = true)
+    private Long journalId;
+    private Long accountId;
+    private BigDecimal amount;
+    private TransactionType type;
+    private LocalDateTime occurredAt;
+    private LocalDateTime dispatchedAt;
+    private LocalDateTime claimedUntil;
+
+    public LedgerOutboxEvent(AccountingJournal journal, Long accountId) {
+        this.journalId = journal.getId();
+        this.accountId = accountId;
+        this.amount = journal.getAmount();
+        this.type = journal.getType();
+        this.occurredAt = journal.getTransactionDate();
+    }
+}
@@ -0,0 +1,18 @@
+package afric.remit.bankapp.model;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+// Shared high-water mark that nodes lease blocks of numbers from.
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NumberSequence {
+    @Id
+    private String name;
+    private long nextValue;
+}
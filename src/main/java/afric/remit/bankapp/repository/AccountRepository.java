@@ -1,9 +1,56 @@
 package afric.remit.bankapp.repository;
 
 import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.repository.projection.AccountBalanceView;
+import afric.remit.bankapp.repository.projection.AccountNumberIdView;
+import afric.remit.bankapp.repository.projection.IdRange;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import javax.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface AccountRepository extends JpaRepository<Account, Long> {
+public interface AccountRepository extends JpaRepository<Account, Long>, AccountRepositoryCustom {
+    // Hot accounts keep part of their balance in BalanceBucket slots; reported balances must include them.
+    String TOTAL_BALANCE = "(a.balance + coalesce((select sum(b.balance) from BalanceBucket b where b.account = a), 0))";
+
     Optional<Account> findByAccountNumber(String accountNumber);
-}
\ No newline at end of file
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.accountNumber = :accountNumber")
+    Optional<Account> findByAccountNumberForUpdate(@Param("accountNumber") String accountNumber);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.id = :id")
+    Optional<Account> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("select " + TOTAL_BALANCE + " from Account a where a.id = :id")
+    BigDecimal findTotalBalance(@Param("id") Long id);
+
+    @Query("select a.id from Account a where a.balanceBuckets > 0")
+    List<Long> findIdsWithBalanceBuckets();
+
+    @Query("select a.id from Account a where a.balanceBuckets > 0 and a.id between :fromId and :toId order by a.id")
+    List<Long> findIdsWithBalanceBucketsInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("select min(a.id) as minId, max(a.id) as maxId from Account a")
+    IdRange findIdRange();
+
+    @Query("select a.id as id, a.accountNumber as accountNumber, " + TOTAL_BALANCE + " as balance, a.currency as currency "
+        + "from Account a where a.id between :fromId and :toId order by a.id")
+    List<AccountBalanceView> findBalancesInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("select a.id as id, a.accountNumber as accountNumber, " + TOTAL_BALANCE + " as balance, a.currency as currency "
+        + "from Account a where a.user.username = :username order by a.id")
+    List<AccountBalanceView> findBalancesByUsername(@Param("username") String username);
+
+    @Query("select a.accountNumber from Account a where a.accountNumber in :accountNumbers")
+    List<String> findExistingAccountNumbers(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    @Query("select a.id as id, a.accountNumber as accountNumber from Account a where a.accountNumber in :accountNumbers")
+    List<AccountNumberIdView> findIdsByAccountNumbers(@Param("accountNumbers") Collection<String> accountNumbers);
+}
@@ -0,0 +1,8 @@
+package afric.remit.bankapp.repository;
+
+import afric.remit.bankapp.model.Account;
+import java.util.Optional;
+
+public interface AccountRepositoryCustom {
+    Optional<Account> findByAccountNumber(String accountNumber);
+}
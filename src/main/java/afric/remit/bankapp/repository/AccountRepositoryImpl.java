@@ -0,0 +1,19 @@
+package afric.remit.bankapp.repository;
+
+import afric.remit.bankapp.model.Account;
+import org.springframework.transaction.annotation.Transactional;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Optional;
+
+public class AccountRepositoryImpl implements AccountRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Account> findByAccountNumber(String accountNumber) {
+        return NaturalIdLookup.load(entityManager, Account.class, accountNumber);
+    }
+}
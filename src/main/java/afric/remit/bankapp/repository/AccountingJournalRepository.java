@@ -2,10 +2,49 @@ package afric.remit.bankapp.repository;
 
 import afric.remit.bankapp.model.Account;
 import afric.remit.bankapp.model.AccountingJournal;
+import afric.remit.bankapp.repository.projection.JournalTotalView;
+import afric.remit.bankapp.repository.projection.MonthlyTotalView;
+import afric.remit.bankapp.repository.projection.RecentDebitView;
+import afric.remit.bankapp.repository.projection.RecentTransactionView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 
 public interface AccountingJournalRepository extends JpaRepository<AccountingJournal, Long> {
     List<AccountingJournal> findByAccountOrderByTransactionDateDesc(Account account);
-}
\ No newline at end of file
+
+    List<AccountingJournal> findByAccountIdOrderByIdAsc(Long accountId);
+
+    // Net (credits minus debits) per account, aggregated in the database so only one row per account comes back.
+    @Query("select j.account.id as accountId, "
+        + "sum(case when j.type = afric.remit.bankapp.model.TransactionType.CREDIT then j.amount else -j.amount end) as total "
+        + "from AccountingJournal j where j.account.id between :fromId and :toId group by j.account.id")
+    List<JournalTotalView> sumNetAmountsInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // Latest entries of several accounts at once; the window function keeps it to one statement.
+    @Query(value = "select t.account_id as accountId, t.id as id, t.amount as amount, t.type as type, "
+        + "t.transaction_date as transactionDate from ("
+        + "select j.account_id, j.id, j.amount, j.type, j.transaction_date, "
+        + "row_number() over (partition by j.account_id order by j.transaction_date desc, j.id desc) as rn "
+        + "from accounting_journal j where j.account_id in (:accountIds)) t "
+        + "where t.rn <= :limit order by t.account_id, t.rn", nativeQuery = true)
+    List<RecentTransactionView> findRecentByAccountIds(@Param("accountIds") Collection<Long> accountIds,
+                                                       @Param("limit") int limit);
+
+    @Query("select j.account.id as accountId, year(j.transactionDate) as year, month(j.transactionDate) as month, "
+        + "j.type as type, sum(j.amount) as total from AccountingJournal j "
+        + "where j.account.id in :accountIds and j.transactionDate >= :since "
+        + "group by j.account.id, year(j.transactionDate), month(j.transactionDate), j.type")
+    List<MonthlyTotalView> sumMonthlyTotals(@Param("accountIds") Collection<Long> accountIds,
+                                            @Param("since") LocalDateTime since);
+
+    @Query("select a.accountNumber as accountNumber, a.currency as currency, j.amount as amount, "
+        + "j.transactionDate as transactionDate from AccountingJournal j join j.account a "
+        + "where j.type = afric.remit.bankapp.model.TransactionType.DEBIT and j.transactionDate >= :since "
+        + "order by j.transactionDate")
+    List<RecentDebitView> findDebitsSince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,12 @@
+package afric.remit.bankapp.repository;
+
+import afric.remit.bankapp.model.AccrualChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
+
+public interface AccrualChunkRepository extends JpaRepository<AccrualChunk, Long> {
+    @Query("select c.fromId from AccrualChunk c where c.runKey = :runKey")
+    List<Long> findCompletedFromIds(@Param("runKey") String runKey);
+}
@@ -0,0 +1,34 @@
+package afric.remit.bankapp.repository;
+
+import afric.remit.bankapp.model.BalanceBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import javax.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface BalanceBucketRepository extends JpaRepository<BalanceBucket, Long> {
+
+    @Modifying
+    @Query("update BalanceBucket b set b.balance = b.balance + :amount where b.account.id = :accountId and b.slot = :slot")
+    int credit(@Param("accountId") Long accountId, @Param("slot") int slot, @Param("amount") BigDecimal amount);
+
+    @Modifying
+    @Query("update BalanceBucket b set b.balance = b.balance - :amount "
+        + "where b.account.id = :accountId and b.slot = :slot and b.balance >= :amount")
+    int debitIfCovered(@Param("accountId") Long accountId, @Param("slot") int slot, @Param("amount") BigDecimal amount);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from BalanceBucket b where b.account.id = :accountId order by b.slot")
+    List<BalanceBucket> findByAccountIdForUpdate(@Param("accountId") Long accountId);
+
+    @Query("select coalesce(sum(b.balance), 0) from BalanceBucket b where b.account.id = :accountId")
+    BigDecimal sumByAccountId(@Param("accountId") Long accountId);
+
+    @Modifying
+    @Query("delete from BalanceBucket b where b.account.id = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+}
@@ -0,0 +1,20 @@
+package afric.remit.bankapp.repository;
+
+import afric.remit.bankapp.model.DailyRollup;
+import afric.remit.bankapp.repository.projection.DailyTotalView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDate;
+import java.util.List;
+
+
+public interface DailyRollupRepository extends JpaRepository<DailyRollup, Long> {
+
+    // Stripes are folded together here; at most (days x types x stripes) rows are read whatever the history size.
+    @Query("select r.day as day, r.type as type, sum(r.total) as total, sum(r.entryCount) as entries "
+        + "from DailyRollup r where r.accountId = :accountId and r.day between :from and :to "
+        + "group by r.day, r.type order by r.day")
+    List<DailyTotalView> sumDailyTotals(@Param("accountId") Long accountId, @Param("from") LocalDate from,
+                                        @Param("to") LocalDate to);
+}
@@ -0,0 +1,7 @@
+package afric.remit.bankapp.repository;
+
+import afric.remit.bankapp.model.ImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, String> {
+}
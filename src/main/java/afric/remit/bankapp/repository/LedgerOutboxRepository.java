@@ -0,0 +1,47 @@
+package afric.remit.bankapp.repository;
+
+import afric.remit.bankapp.model.LedgerOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface LedgerOutboxRepository extends JpaRepository<LedgerOutboxEvent, Long> {
+
+    // Locked only for the short claiming transaction, so relays on several instances claim the head of the queue in turn.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from LedgerOutboxEvent e where e.dispatchedAt is null order by e.id")
+    List<LedgerOutboxEvent> findUndispatched(Pageable page);
+
+    // Every row below the oldest undispatched one has been dispatched, so this is the last id the relay delivered.
+    @Query("select max(e.id) from LedgerOutboxEvent e where e.id < :id")
+    Long findPrecedingId(@Param("id") Long id);
+
+    @Modifying
+    @Query("update LedgerOutboxEvent e set e.claimedUntil = :until where e.id in :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("update LedgerOutboxEvent e set e.dispatchedAt = :at where e.id in :ids")
+    int markDispatched(@Param("ids") Collection<Long> ids, @Param("at") LocalDateTime at);
+
+    @Query("select count(e) from LedgerOutboxEvent e where e.dispatchedAt is null")
+    long countUndispatched();
+
+    @Query("select min(e.occurredAt) from LedgerOutboxEvent e where e.dispatchedAt is null")
+    LocalDateTime findOldestUndispatched();
+
+    @Query("select max(e.id) from LedgerOutboxEvent e where e.dispatchedAt is not null")
+    Long findLastDispatchedId();
+
+    // Rows from below onwards are kept, so the relay can still tell where its last delivery ended.
+    @Modifying
+    @Query("delete from LedgerOutboxEvent e where e.dispatchedAt < :before and e.id < :below")
+    int deleteDispatchedBefore(@Param("before") LocalDateTime before, @Param("below") Long below);
+}
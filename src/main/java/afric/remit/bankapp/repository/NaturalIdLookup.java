@@ -0,0 +1,19 @@
+package afric.remit.bankapp.repository;
+
+import org.hibernate.Session;
+import javax.persistence.EntityManager;
+import java.util.Optional;
+
+// Loads by natural id so the lookup is answered from the natural-id and entity cache regions.
+final class NaturalIdLookup {
+
+    private NaturalIdLookup() {
+    }
+
+    static <T> Optional<T> load(EntityManager entityManager, Class<T> type, String naturalId) {
+        if (naturalId == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(type).loadOptional(naturalId);
+    }
+}
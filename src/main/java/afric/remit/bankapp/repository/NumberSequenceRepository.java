@@ -0,0 +1,16 @@
+package afric.remit.bankapp.repository;
+
+import afric.remit.bankapp.model.NumberSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface NumberSequenceRepository extends JpaRepository<NumberSequence, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from NumberSequence s where s.name = :name")
+    Optional<NumberSequence> findByNameForUpdate(@Param("name") String name);
+}
@@ -1,9 +1,17 @@
 package afric.remit.bankapp.repository;
 
 import afric.remit.bankapp.model.User;
+import afric.remit.bankapp.repository.projection.UsernameIdView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     Optional<User> findByUsername(String username);
+
+    @Query("select u.id as id, u.username as username from User u where u.username in :usernames")
+    List<UsernameIdView> findIdsByUsernames(@Param("usernames") Collection<String> usernames);
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package afric.remit.bankapp.repository;
+
+import afric.remit.bankapp.model.User;
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+    Optional<User> findByUsername(String username);
+}
@@ -0,0 +1,19 @@
+package afric.remit.bankapp.repository;
+
+import afric.remit.bankapp.model.User;
+import org.springframework.transaction.annotation.Transactional;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Optional;
+
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByUsername(String username) {
+        return NaturalIdLookup.load(entityManager, User.class, username);
+    }
+}
@@ -0,0 +1,10 @@
+package afric.remit.bankapp.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface AccountBalanceView {
+    Long getId();
+    String getAccountNumber();
+    BigDecimal getBalance();
+    String getCurrency();
+}
@@ -0,0 +1,6 @@
+package afric.remit.bankapp.repository.projection;
+
+public interface AccountNumberIdView {
+    Long getId();
+    String getAccountNumber();
+}
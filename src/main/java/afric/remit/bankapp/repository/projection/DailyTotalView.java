@@ -0,0 +1,12 @@
+package afric.remit.bankapp.repository.projection;
+
+import afric.remit.bankapp.model.TransactionType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface DailyTotalView {
+    LocalDate getDay();
+    TransactionType getType();
+    BigDecimal getTotal();
+    Long getEntries();
+}
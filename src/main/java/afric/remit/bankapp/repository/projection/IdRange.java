@@ -0,0 +1,6 @@
+package afric.remit.bankapp.repository.projection;
+
+public interface IdRange {
+    Long getMinId();
+    Long getMaxId();
+}
@@ -0,0 +1,8 @@
+package afric.remit.bankapp.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface JournalTotalView {
+    Long getAccountId();
+    BigDecimal getTotal();
+}
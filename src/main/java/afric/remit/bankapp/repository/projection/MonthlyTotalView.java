@@ -0,0 +1,12 @@
+package afric.remit.bankapp.repository.projection;
+
+import afric.remit.bankapp.model.TransactionType;
+import java.math.BigDecimal;
+
+public interface MonthlyTotalView {
+    Long getAccountId();
+    Integer getYear();
+    Integer getMonth();
+    TransactionType getType();
+    BigDecimal getTotal();
+}
@@ -0,0 +1,11 @@
+package afric.remit.bankapp.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface RecentDebitView {
+    String getAccountNumber();
+    String getCurrency();
+    BigDecimal getAmount();
+    LocalDateTime getTransactionDate();
+}
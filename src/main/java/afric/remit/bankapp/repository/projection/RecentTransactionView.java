@@ -0,0 +1,12 @@
+package afric.remit.bankapp.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface RecentTransactionView {
+    Long getAccountId();
+    Long getId();
+    BigDecimal getAmount();
+    Integer getType();
+    LocalDateTime getTransactionDate();
+}
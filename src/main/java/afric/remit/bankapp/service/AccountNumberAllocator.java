@@ -0,0 +1,146 @@
+package afric.remit.bankapp.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import afric.remit.bankapp.model.NumberSequence;
+import afric.remit.bankapp.repository.NumberSequenceRepository;
+import afric.remit.bankapp.util.Luhn;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Issues account numbers of the form prefix + zero-padded sequence + Luhn check digit.
+ * Each node leases a block of sequence values from the shared {@link NumberSequence} row
+ * (locked, in its own transaction) and hands them out from memory with a single atomic
+ * increment, so numbers are unique across nodes and cost one database round trip per block.
+ * Values of a block left unused when a node stops are skipped, never reissued.
+ * Imports may not bring in numbers of the issued shape ({@link #isInRange}), since the
+ * allocator would later hand out the same number again.
+ */
+@Component
+public class AccountNumberAllocator {
+
+    static final String SEQUENCE = "account-number";
+    // A plain insert, so a row created concurrently by another node fails instead of being overwritten.
+    static final String CREATE_SEQUENCE = "insert into number_sequence (name, next_value) values (?, 1)";
+
+    @Autowired
+    private NumberSequenceRepository sequenceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${account-numbers.prefix:40}")
+    private String prefix;
+
+    @Value("${account-numbers.digits:9}")
+    private int digits;
+
+    @Value("${account-numbers.block-size:1000}")
+    private int blockSize;
+
+    private final LongAdder leases = new LongAdder();
+    private volatile Block block = new Block(0, 0);
+
+    public String next() {
+        while (true) {
+            Block current = block;
+            long value = current.cursor.getAndIncrement();
+            if (value < current.end) {
+                return format(value);
+            }
+            refill(current);
+        }
+    }
+
+    private synchronized void refill(Block exhausted) {
+        if (block == exhausted) {
+            block = lease();
+        }
+    }
+
+    // The range check runs under the row lock, so an exhausted range never moves the sequence;
+    // the last block before the limit is cut short rather than running past it.
+    private Block lease() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        long maxValue = maxValue();
+        while (true) {
+            Block leased = tx.execute(status -> sequenceRepository.findByNameForUpdate(SEQUENCE)
+                .map(sequence -> {
+                    long first = sequence.getNextValue();
+                    if (first > maxValue) {
+                        throw new RuntimeException("Account number range exhausted");
+                    }
+                    long end = Math.min(first + blockSize, maxValue + 1);
+                    sequence.setNextValue(end);
+                    return new Block(first, end);
+                })
+                .orElse(null));
+            if (leased != null) {
+                leases.increment();
+                return leased;
+            }
+            try {
+                tx.executeWithoutResult(status -> jdbcTemplate.update(CREATE_SEQUENCE, SEQUENCE));
+            } catch (DataIntegrityViolationException e) {
+                // Another node created the row first; lease from it on the next pass.
+            }
+        }
+    }
+
+    private long maxValue() {
+        long max = 1;
+        for (int i = 0; i < digits; i++) {
+            max *= 10;
+        }
+        return max - 1;
+    }
+
+    // True for any number of the issued shape, whether or not its sequence value was leased yet.
+    public boolean isInRange(String accountNumber) {
+        if (accountNumber.length() != prefix.length() + digits + 1 || !accountNumber.startsWith(prefix)) {
+            return false;
+        }
+        for (int i = prefix.length(); i < accountNumber.length(); i++) {
+            char c = accountNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    String format(long value) {
+        StringBuilder number = new StringBuilder(prefix.length() + digits + 1).append(prefix);
+        String sequence = Long.toString(value);
+        for (int i = sequence.length(); i < digits; i++) {
+            number.append('0');
+        }
+        number.append(sequence);
+        return number.append(Luhn.checkDigit(number)).toString();
+    }
+
+    public long getLeases() {
+        return leases.sum();
+    }
+
+    private static final class Block {
+        final AtomicLong cursor;
+        final long end;
+
+        Block(long start, long end) {
+            this.cursor = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
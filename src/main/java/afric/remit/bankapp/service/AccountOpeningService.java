@@ -0,0 +1,51 @@
+package afric.remit.bankapp.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.User;
+import afric.remit.bankapp.repository.UserRepository;
+import afric.remit.bankapp.service.fx.FxRateService;
+import afric.remit.bankapp.service.ledger.LedgerStore;
+import java.math.BigDecimal;
+
+
+@Service
+public class AccountOpeningService {
+
+    static final int MAX_OPEN_ATTEMPTS = 5;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LedgerStore ledgerStore;
+
+    @Autowired
+    private AccountNumberAllocator accountNumberAllocator;
+
+    @Autowired
+    private FxRateService fxRateService;
+
+    // A null currency opens the account in the base currency.
+    public Account open(String username, String currency) {
+        String accountCurrency = currency == null ? fxRateService.getBaseCurrency() : currency;
+        if (!fxRateService.supports(accountCurrency)) {
+            throw new RuntimeException("Unsupported currency " + accountCurrency);
+        }
+        User user = userRepository.findByUsername(username)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        // Issued numbers never repeat, but an account created before the allocator may hold one;
+        // that number is skipped for the next.
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return ledgerStore.open(accountNumberAllocator.next(), BigDecimal.ZERO, accountCurrency, user);
+            } catch (DataIntegrityViolationException e) {
+                if (attempt == MAX_OPEN_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package afric.remit.bankapp.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import afric.remit.bankapp.dto.AccountOverview;
+import afric.remit.bankapp.dto.MonthlyTotal;
+import afric.remit.bankapp.dto.TransactionSummary;
+import afric.remit.bankapp.model.TransactionType;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.AccountingJournalRepository;
+import afric.remit.bankapp.repository.projection.AccountBalanceView;
+import afric.remit.bankapp.repository.projection.MonthlyTotalView;
+import afric.remit.bankapp.repository.projection.RecentTransactionView;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+
+/**
+ * Builds the "my accounts" page from three projection queries (accounts, recent entries,
+ * monthly totals) no matter how many accounts the user holds. No entities are loaded,
+ * so none of the lazy collections are touched.
+ */
+@Service
+public class AccountOverviewService {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountingJournalRepository journalRepository;
+
+    @Value("${overview.recent-transactions:10}")
+    private int recentTransactions = 10;
+
+    @Value("${overview.months:12}")
+    private int months = 12;
+
+    @Transactional(readOnly = true)
+    public List<AccountOverview> getOverview(String username) {
+        List<AccountBalanceView> accounts = accountRepository.findBalancesByUsername(username);
+        if (accounts.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> accountIds = new ArrayList<>(accounts.size());
+        for (AccountBalanceView account : accounts) {
+            accountIds.add(account.getId());
+        }
+
+        Map<Long, List<TransactionSummary>> recent = new HashMap<>();
+        for (RecentTransactionView row : journalRepository.findRecentByAccountIds(accountIds, recentTransactions)) {
+            recent.computeIfAbsent(row.getAccountId(), id -> new ArrayList<>())
+                .add(new TransactionSummary(row.getId(), row.getAmount(),
+                    TransactionType.values()[row.getType()], row.getTransactionDate()));
+        }
+
+        LocalDate since = YearMonth.now().minusMonths(months - 1L).atDay(1);
+        Map<Long, Map<YearMonth, MonthlyTotal>> monthly = new HashMap<>();
+        for (MonthlyTotalView row : journalRepository.sumMonthlyTotals(accountIds, since.atStartOfDay())) {
+            YearMonth month = YearMonth.of(row.getYear(), row.getMonth());
+            MonthlyTotal total = monthly
+                .computeIfAbsent(row.getAccountId(), id -> new TreeMap<>(Comparator.reverseOrder()))
+                .computeIfAbsent(month, m -> new MonthlyTotal(m.toString(), BigDecimal.ZERO, BigDecimal.ZERO));
+            if (row.getType() == TransactionType.CREDIT) {
+                total.setCredits(total.getCredits().add(row.getTotal()));
+            } else {
+                total.setDebits(total.getDebits().add(row.getTotal()));
+            }
+        }
+
+        List<AccountOverview> overview = new ArrayList<>(accounts.size());
+        for (AccountBalanceView account : accounts) {
+            overview.add(new AccountOverview(account.getAccountNumber(), account.getBalance(),
+                recent.getOrDefault(account.getId(), Collections.emptyList()),
+                new ArrayList<>(monthly.getOrDefault(account.getId(), new LinkedHashMap<>()).values())));
+        }
+        return overview;
+    }
+}
@@ -1,63 +1,50 @@
 package afric.remit.bankapp.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import afric.remit.bankapp.model.User;
-import afric.remit.bankapp.repository.UserRepository;
 import afric.remit.bankapp.dto.TransactionRequest;
 import afric.remit.bankapp.model.Account;
-import afric.remit.bankapp.model.AccountingJournal;
-import afric.remit.bankapp.model.TransactionType;
-import afric.remit.bankapp.repository.AccountRepository;
-import afric.remit.bankapp.repository.AccountingJournalRepository;
-import java.time.LocalDateTime;
-import org.springframework.transaction.annotation.Transactional;
+import afric.remit.bankapp.service.fx.FxConversion;
+import afric.remit.bankapp.service.fx.FxRateService;
+import afric.remit.bankapp.service.ledger.LedgerStore;
+import afric.remit.bankapp.service.velocity.VelocityService;
 
 
+// Validates and converts requests; the ledger store applies the balance change and journal entry atomically.
 @Service
 public class AccountService {
     
     @Autowired
-    private AccountRepository accountRepository;
-    
+    private LedgerStore ledgerStore;
+
     @Autowired
-    private AccountingJournalRepository journalRepository;
+    private FxRateService fxRateService;
+
+    @Autowired
+    private VelocityService velocityService;
     
-    @Transactional
     public void credit(TransactionRequest request) {
-        Account account = accountRepository.findByAccountNumber(request.getAccountNumber())
-            .orElseThrow(() -> new RuntimeException("Account not found"));
-            
-        account.setBalance(account.getBalance().add(request.getAmount()));
-        accountRepository.save(account);
-        
-        AccountingJournal journal = new AccountingJournal();
-        journal.setAccount(account);
-        journal.setAmount(request.getAmount());
-        journal.setTransactionDate(LocalDateTime.now());
-        journal.setType(TransactionType.CREDIT);
-        journalRepository.save(journal);
+        Account target = findAccount(request.getAccountNumber());
+        FxConversion conversion = fxRateService.convert(request.getAmount(), request.getCurrency(), target.getCurrency());
+        ledgerStore.credit(target, conversion);
     }
     
-    @Transactional
     public void debit(TransactionRequest request) {
-        Account account = accountRepository.findByAccountNumber(request.getAccountNumber())
-            .orElseThrow(() -> new RuntimeException("Account not found"));
-            
-        if (account.getBalance().compareTo(request.getAmount()) < 0) {
-            throw new RuntimeException("Insufficient funds");
+        Account target = findAccount(request.getAccountNumber());
+        if (request.getCurrency() != null && !request.getCurrency().equals(target.getCurrency())) {
+            throw new RuntimeException("Currency mismatch");
+        }
+        long bucket = velocityService.record(target, request.getAmount());
+        try {
+            ledgerStore.debit(target, request.getAmount());
+        } catch (RuntimeException e) {
+            velocityService.release(target, bucket, request.getAmount());
+            throw e;
         }
-        
-        account.setBalance(account.getBalance().subtract(request.getAmount()));
-        accountRepository.save(account);
-        
-        AccountingJournal journal = new AccountingJournal();
-        journal.setAccount(account);
-        journal.setAmount(request.getAmount());
-        journal.setTransactionDate(LocalDateTime.now());
-        journal.setType(TransactionType.DEBIT);
-        journalRepository.save(journal);
     }
-}
\ No newline at end of file
+
+    private Account findAccount(String accountNumber) {
+        return ledgerStore.findAccount(accountNumber)
+            .orElseThrow(() -> new RuntimeException("Account not found"));
+    }
+}
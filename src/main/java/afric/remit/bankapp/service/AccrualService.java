@@ -0,0 +1,232 @@
+package afric.remit.bankapp.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import afric.remit.bankapp.dto.AccrualReport;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.AccrualChunk;
+import afric.remit.bankapp.model.AccrualKind;
+import afric.remit.bankapp.model.TransactionType;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.AccrualChunkRepository;
+import afric.remit.bankapp.repository.projection.AccountBalanceView;
+import afric.remit.bankapp.repository.projection.IdRange;
+import afric.remit.bankapp.service.fx.FxRateService;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+
+
+/**
+ * Posts month-end interest or fees to every account in fixed id-range chunks.
+ * Chunks run in parallel, each in its own short transaction that batch-inserts the journal
+ * rows, applies relative balance updates and records an {@link AccrualChunk} checkpoint, so a
+ * rerun of the same period after a crash only processes the chunks that never committed.
+ * Fees are charged first and journalled only for the accounts whose balance still covered them.
+ * The monthly fee is set in the base currency and charged at its converted value in each
+ * account's own currency. CHARGE_FEE checks the account row alone, so before a fee run the
+ * chunk's hot accounts have their balance buckets folded back onto the row.
+ */
+@Service
+@ConditionalOnProperty(name = "ledger.store", havingValue = "jpa", matchIfMissing = true)
+public class AccrualService {
+
+    static final String INSERT_JOURNAL =
+        "insert into accounting_journal (amount, transaction_date, type, account_id, currency) "
+            + "select ?, ?, ?, a.id, a.currency from account a where a.id = ?";
+    static final String UPDATE_BALANCE = "update account set balance = balance + ?, version = version + 1 where id = ?";
+    // The balance read for the chunk is not locked, so the fee re-checks it in the same statement
+    // that takes it; a concurrent debit cannot leave the account negative.
+    static final String CHARGE_FEE =
+        "update account set balance = balance - ?, version = version + 1 where id = ? and balance >= ?";
+    // Picks up this chunk's postings by range and timestamp; anything posted concurrently already has its event.
+    static final String INSERT_OUTBOX =
+        "insert into ledger_outbox (journal_id, account_id, amount, type, occurred_at) "
+            + "select j.id, j.account_id, j.amount, j.type, j.transaction_date from accounting_journal j "
+            + "where j.account_id between ? and ? and j.transaction_date = ? "
+            + "and not exists (select 1 from ledger_outbox o where o.journal_id = j.id)";
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccrualChunkRepository chunkRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DailyRollupService dailyRollupService;
+
+    @Autowired
+    private FxRateService fxRateService;
+
+    @Autowired
+    private HotAccountService hotAccountService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${accrual.chunk-size:500}")
+    private long chunkSize = 500;
+
+    @Value("${accrual.parallelism:4}")
+    private int parallelism = 4;
+
+    @Value("${accrual.interest-annual-rate:0.02}")
+    private BigDecimal interestAnnualRate = new BigDecimal("0.02");
+
+    // In fx.base-currency.
+    @Value("${accrual.monthly-fee:1.00}")
+    private BigDecimal monthlyFee = new BigDecimal("1.00");
+
+    public AccrualReport run(AccrualKind kind, YearMonth period) {
+        long start = System.nanoTime();
+        String runKey = kind + ":" + period;
+        AccrualReport report = new AccrualReport(runKey, 0, 0, 0, 0, 0);
+
+        IdRange range = accountRepository.findIdRange();
+        if (range == null || range.getMinId() == null) {
+            return report;
+        }
+
+        Set<Long> completed = new HashSet<>();
+        for (Long fromId : chunkRepository.findCompletedFromIds(runKey)) {
+            if (fromId % chunkSize != 0) {
+                throw new IllegalStateException("Run " + runKey + " was started with a different chunk size");
+            }
+            completed.add(fromId);
+        }
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Cache secondLevelCache = entityManagerFactory.getCache();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+        List<Future<Integer>> pending = new ArrayList<>();
+        try {
+            for (long fromId = (range.getMinId() / chunkSize) * chunkSize; fromId <= range.getMaxId(); fromId += chunkSize) {
+                if (completed.contains(fromId)) {
+                    report.setChunksSkipped(report.getChunksSkipped() + 1);
+                    continue;
+                }
+                long chunkFrom = fromId;
+                long chunkTo = fromId + chunkSize - 1;
+                pending.add(workers.submit(() -> {
+                    List<Long> posted = tx.execute(status -> postChunk(runKey, kind, chunkFrom, chunkTo));
+                    // The balances were changed behind Hibernate's back, so drop the cached copies once committed.
+                    for (Long accountId : posted) {
+                        secondLevelCache.evict(Account.class, accountId);
+                    }
+                    return posted.size();
+                }));
+            }
+            for (Future<Integer> future : pending) {
+                try {
+                    report.setEntriesPosted(report.getEntriesPosted() + future.get());
+                    report.setChunksProcessed(report.getChunksProcessed() + 1);
+                } catch (ExecutionException e) {
+                    report.setChunksFailed(report.getChunksFailed() + 1);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Accrual run interrupted", e);
+        } finally {
+            workers.shutdownNow();
+        }
+
+        report.setElapsedMillis((System.nanoTime() - start) / 1_000_000);
+        return report;
+    }
+
+    List<Long> postChunk(String runKey, AccrualKind kind, long fromId, long toId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        TransactionType type = kind == AccrualKind.INTEREST ? TransactionType.CREDIT : TransactionType.DEBIT;
+        List<Long> candidates = new ArrayList<>();
+        List<BigDecimal> amounts = new ArrayList<>();
+        List<Object[]> balanceRows = new ArrayList<>();
+
+        if (type == TransactionType.DEBIT) {
+            List<Long> bucketed = accountRepository.findIdsWithBalanceBucketsInRange(fromId, toId);
+            for (Long accountId : bucketed) {
+                hotAccountService.consolidate(accountId);
+            }
+            if (!bucketed.isEmpty()) {
+                // CHARGE_FEE goes through JDBC, which does not flush the consolidated rows by itself.
+                accountRepository.flush();
+            }
+        }
+
+        for (AccountBalanceView account : accountRepository.findBalancesInRange(fromId, toId)) {
+            BigDecimal amount = accrue(kind, account.getBalance(), account.getCurrency());
+            if (amount.signum() == 0) {
+                continue;
+            }
+            candidates.add(account.getId());
+            amounts.add(amount);
+            balanceRows.add(type == TransactionType.CREDIT
+                ? new Object[] {amount, account.getId()}
+                : new Object[] {amount, account.getId(), amount});
+        }
+
+        List<Object[]> journalRows = new ArrayList<>();
+        List<Object[]> rollupRows = new ArrayList<>();
+        List<Long> accountIds = new ArrayList<>();
+        if (!candidates.isEmpty()) {
+            int[] applied = type == TransactionType.CREDIT
+                ? jdbcTemplate.batchUpdate(UPDATE_BALANCE, balanceRows)
+                : jdbcTemplate.batchUpdate(CHARGE_FEE, balanceRows);
+            for (int i = 0; i < candidates.size(); i++) {
+                if (applied[i] == 0) {
+                    continue;
+                }
+                Long accountId = candidates.get(i);
+                BigDecimal amount = amounts.get(i);
+                journalRows.add(new Object[] {amount, now, type.ordinal(), accountId});
+                rollupRows.add(DailyRollupService.row(accountId, now.toLocalDateTime().toLocalDate(), type, 0, amount, 1));
+                accountIds.add(accountId);
+            }
+        }
+
+        if (!journalRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_JOURNAL, journalRows);
+            jdbcTemplate.update(INSERT_OUTBOX, fromId, toId, now);
+            dailyRollupService.addAll(rollupRows);
+        }
+        chunkRepository.save(new AccrualChunk(runKey, fromId, toId, journalRows.size(), LocalDateTime.now()));
+        return accountIds;
+    }
+
+    BigDecimal accrue(AccrualKind kind, BigDecimal balance, String currency) {
+        if (balance == null || balance.signum() <= 0) {
+            return BigDecimal.ZERO;
+        }
+        if (kind == AccrualKind.INTEREST) {
+            return balance.multiply(interestAnnualRate)
+                .divide(BigDecimal.valueOf(12), 2, RoundingMode.HALF_EVEN);
+        }
+        BigDecimal fee = fxRateService.convert(monthlyFee, fxRateService.getBaseCurrency(), currency).getAmount();
+        // Fees are only charged where the balance covers them; CHARGE_FEE checks again when it applies them.
+        return balance.compareTo(fee) >= 0 ? fee : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,227 @@
+package afric.remit.bankapp.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import afric.remit.bankapp.dto.CreditStatus;
+import afric.remit.bankapp.dto.TransactionRequest;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.service.fx.FxConversion;
+import afric.remit.bankapp.service.fx.FxRateService;
+import afric.remit.bankapp.service.ledger.LedgerStore;
+import afric.remit.bankapp.util.BoundedRingBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+
+/**
+ * Accepts credits into per-partition ring buffers and applies them on background consumers.
+ * An account number always maps to the same partition and each partition has exactly one
+ * consumer, so credits to one account are applied in the order they were accepted.
+ */
+@Service
+public class AsyncCreditService {
+
+    @Autowired
+    private LedgerStore ledgerStore;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private FxRateService fxRateService;
+
+    @Value("${async-credit.partitions:4}")
+    private int partitions = 4;
+
+    @Value("${async-credit.capacity:4096}")
+    private int capacity = 4096;
+
+    @Value("${async-credit.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${async-credit.offer-timeout-ms:50}")
+    private long offerTimeoutMillis = 50;
+
+    @Value("${async-credit.status-retention-ms:600000}")
+    private long statusRetentionMillis = 600000;
+
+    private final Map<String, CreditStatus> statuses = new ConcurrentHashMap<>();
+    private List<BoundedRingBuffer<PendingCredit>> rings;
+    private List<Thread> consumers;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        rings = new ArrayList<>(partitions);
+        consumers = new ArrayList<>(partitions);
+        running = true;
+        for (int p = 0; p < partitions; p++) {
+            BoundedRingBuffer<PendingCredit> ring = new BoundedRingBuffer<>(capacity);
+            rings.add(ring);
+            Thread consumer = new Thread(() -> consume(ring), "async-credit-" + p);
+            consumer.setDaemon(true);
+            consumers.add(consumer);
+            consumer.start();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread consumer : consumers) {
+            consumer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    // Returns the tracking id, or empty when the partition stayed full for the whole offer timeout.
+    public Optional<String> submit(TransactionRequest request) {
+        String trackingId = UUID.randomUUID().toString();
+        PendingCredit credit = new PendingCredit(trackingId, request);
+        statuses.put(trackingId, status(credit, CreditStatus.State.PENDING, null));
+
+        BoundedRingBuffer<PendingCredit> ring = rings.get(Math.floorMod(request.getAccountNumber().hashCode(), partitions));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offerTimeoutMillis);
+        while (!ring.offer(credit)) {
+            if (System.nanoTime() >= deadline) {
+                statuses.remove(trackingId);
+                return Optional.empty();
+            }
+            LockSupport.parkNanos(50_000);
+        }
+        return Optional.of(trackingId);
+    }
+
+    public Optional<CreditStatus> status(String trackingId) {
+        return Optional.ofNullable(statuses.get(trackingId));
+    }
+
+    public int queued() {
+        int total = 0;
+        for (BoundedRingBuffer<PendingCredit> ring : rings) {
+            total += ring.size();
+        }
+        return total;
+    }
+
+    @Scheduled(fixedDelayString = "${async-credit.status-cleanup-interval-ms:60000}")
+    public void evictCompletedStatuses() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(statusRetentionMillis));
+        statuses.values().removeIf(s -> s.getCompletedAt() != null && s.getCompletedAt().isBefore(cutoff));
+    }
+
+    private void consume(BoundedRingBuffer<PendingCredit> ring) {
+        List<PendingCredit> batch = new ArrayList<>(batchSize);
+        while (running || ring.size() > 0) {
+            if (ring.drainTo(batch, batchSize) == 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                continue;
+            }
+            try {
+                applyBatch(batch);
+            } catch (RuntimeException e) {
+                // This consumer is the partition's only one: it must outlive the batch, and the batch's credits must not stay pending.
+                for (PendingCredit credit : batch) {
+                    statuses.computeIfPresent(credit.trackingId, (id, current) ->
+                        current.getState() == CreditStatus.State.PENDING
+                            ? status(credit, CreditStatus.State.FAILED, e.getMessage()) : current);
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void applyBatch(List<PendingCredit> batch) {
+        // Resolve accounts up front so an unknown account cannot sink the whole batch.
+        Map<Long, List<PendingCredit>> byAccount = new TreeMap<>();
+        Map<Long, Account> accounts = new TreeMap<>();
+        for (PendingCredit credit : batch) {
+            Optional<Account> account = ledgerStore.findAccount(credit.request.getAccountNumber());
+            if (account.isEmpty()) {
+                complete(credit, CreditStatus.State.FAILED, "Account not found");
+                continue;
+            }
+            try {
+                credit.conversion = fxRateService.convert(credit.request.getAmount(), credit.request.getCurrency(),
+                    account.get().getCurrency());
+            } catch (RuntimeException e) {
+                complete(credit, CreditStatus.State.FAILED, e.getMessage());
+                continue;
+            }
+            accounts.put(account.get().getId(), account.get());
+            byAccount.computeIfAbsent(account.get().getId(), id -> new ArrayList<>()).add(credit);
+        }
+        if (byAccount.isEmpty()) {
+            return;
+        }
+
+        List<Account> targets = new ArrayList<>(byAccount.size());
+        List<List<FxConversion>> conversions = new ArrayList<>(byAccount.size());
+        for (Map.Entry<Long, List<PendingCredit>> entry : byAccount.entrySet()) {
+            targets.add(accounts.get(entry.getKey()));
+            List<FxConversion> forAccount = new ArrayList<>(entry.getValue().size());
+            for (PendingCredit credit : entry.getValue()) {
+                forAccount.add(credit.conversion);
+            }
+            conversions.add(forAccount);
+        }
+        try {
+            // The TreeMaps hand the accounts over in id order, the same order every consumer uses.
+            ledgerStore.creditAll(targets, conversions);
+            for (List<PendingCredit> credits : byAccount.values()) {
+                for (PendingCredit credit : credits) {
+                    complete(credit, CreditStatus.State.APPLIED, null);
+                }
+            }
+        } catch (RuntimeException e) {
+            for (List<PendingCredit> credits : byAccount.values()) {
+                for (PendingCredit credit : credits) {
+                    applySingly(credit);
+                }
+            }
+        }
+    }
+
+    private void applySingly(PendingCredit credit) {
+        try {
+            accountService.credit(credit.request);
+            complete(credit, CreditStatus.State.APPLIED, null);
+        } catch (RuntimeException e) {
+            complete(credit, CreditStatus.State.FAILED, e.getMessage());
+        }
+    }
+
+    private void complete(PendingCredit credit, CreditStatus.State state, String message) {
+        statuses.put(credit.trackingId, status(credit, state, message));
+    }
+
+    private CreditStatus status(PendingCredit credit, CreditStatus.State state, String message) {
+        return new CreditStatus(credit.trackingId, credit.request.getAccountNumber(), credit.request.getAmount(),
+            state, message, credit.submittedAt, state == CreditStatus.State.PENDING ? null : LocalDateTime.now());
+    }
+
+    static class PendingCredit {
+        final String trackingId;
+        final TransactionRequest request;
+        final LocalDateTime submittedAt = LocalDateTime.now();
+        // Resolved by the consumer once the target account is known.
+        FxConversion conversion;
+
+        PendingCredit(String trackingId, TransactionRequest request) {
+            this.trackingId = trackingId;
+            this.request = request;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package afric.remit.bankapp.service;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import afric.remit.bankapp.dto.CacheRegionStats;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+@Service
+public class CacheStatisticsService {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    public List<CacheRegionStats> getRegionStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String[] regions = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regions);
+
+        List<CacheRegionStats> result = new ArrayList<>(regions.length);
+        for (String region : regions) {
+            CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+            if (stats == null) {
+                continue;
+            }
+            long lookups = stats.getHitCount() + stats.getMissCount();
+            double hitRatio = lookups == 0 ? 0 : (double) stats.getHitCount() / lookups;
+            result.add(new CacheRegionStats(region, stats.getHitCount(), stats.getMissCount(),
+                stats.getPutCount(), stats.getElementCountInMemory(), hitRatio));
+        }
+        return result;
+    }
+}
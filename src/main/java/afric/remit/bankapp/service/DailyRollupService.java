@@ -0,0 +1,99 @@
+package afric.remit.bankapp.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import afric.remit.bankapp.dto.ActivitySummary;
+import afric.remit.bankapp.dto.PeriodTotal;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.RollupGranularity;
+import afric.remit.bankapp.model.TransactionType;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.DailyRollupRepository;
+import afric.remit.bankapp.repository.projection.DailyTotalView;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Keeps {@code daily_rollup} in step with the journal and answers activity summaries from it.
+ * Postings add to their day's row inside the posting transaction, so a rollup is never ahead of
+ * or behind committed journal entries; summaries read a bounded number of rollup rows instead of
+ * aggregating the account's whole history.
+ */
+@Service
+public class DailyRollupService {
+
+    // One statement per row: a new key is inserted, an existing one is added to in place. Unlike an
+    // update followed by an insert, two postings racing to create the same row cannot deadlock on InnoDB gap locks.
+    static final String UPSERT_ROLLUP =
+        "insert into daily_rollup (total, entry_count, account_id, rollup_day, type, stripe) values (?, ?, ?, ?, ?, ?) "
+            + "on duplicate key update total = total + values(total), entry_count = entry_count + values(entry_count)";
+
+    @Autowired
+    private DailyRollupRepository rollupRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${rollups.max-range-days:1096}")
+    private long maxRangeDays = 1096;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(Long accountId, LocalDate day, TransactionType type, int stripe, BigDecimal amount) {
+        addAll(Collections.singletonList(row(accountId, day, type, stripe, amount, 1)));
+    }
+
+    // Rows come from row(); entries for the same key must already be merged.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addAll(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(UPSERT_ROLLUP, rows);
+    }
+
+    static Object[] row(Long accountId, LocalDate day, TransactionType type, int stripe, BigDecimal amount, long entries) {
+        return new Object[] {amount, entries, accountId, Date.valueOf(day), type.ordinal(), stripe};
+    }
+
+    @Transactional(readOnly = true)
+    public ActivitySummary summary(String accountNumber, LocalDate from, LocalDate to, RollupGranularity granularity) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new IllegalArgumentException("Summary range is limited to " + maxRangeDays + " days");
+        }
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+            .orElseThrow(() -> new RuntimeException("Account not found"));
+
+        Map<String, PeriodTotal> periods = new LinkedHashMap<>();
+        for (DailyTotalView row : rollupRepository.sumDailyTotals(account.getId(), from, to)) {
+            String period = granularity == RollupGranularity.MONTH ? YearMonth.from(row.getDay()).toString()
+                : row.getDay().toString();
+            PeriodTotal total = periods.computeIfAbsent(period,
+                p -> new PeriodTotal(p, BigDecimal.ZERO, BigDecimal.ZERO, 0, 0));
+            if (row.getType() == TransactionType.CREDIT) {
+                total.setCredits(total.getCredits().add(row.getTotal()));
+                total.setCreditCount(total.getCreditCount() + row.getEntries());
+            } else {
+                total.setDebits(total.getDebits().add(row.getTotal()));
+                total.setDebitCount(total.getDebitCount() + row.getEntries());
+            }
+        }
+        return new ActivitySummary(account.getAccountNumber(), account.getCurrency(), from, to, granularity,
+            new ArrayList<>(periods.values()));
+    }
+}
@@ -0,0 +1,163 @@
+package afric.remit.bankapp.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.BalanceBucket;
+import afric.remit.bankapp.model.TransactionType;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.BalanceBucketRepository;
+import afric.remit.bankapp.service.fx.FxConversion;
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/**
+ * Split-balance mode for hot accounts. Credits add to one randomly chosen {@link BalanceBucket}
+ * slot instead of the account row, so concurrent credits rarely queue on the same row lock.
+ *
+ * Lock order is always account row, then slots by ascending number. Credits and debit attempts
+ * write their journal row first, so they take the account row's foreign-key share lock before any
+ * slot lock and can never deadlock against a consolidation holding the account row.
+ *
+ * Buckets are rows beside the account row, so this service and its sweep exist only with the
+ * database ledger.
+ */
+@Service
+@ConditionalOnProperty(name = "ledger.store", havingValue = "jpa", matchIfMissing = true)
+public class HotAccountService {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private BalanceBucketRepository bucketRepository;
+
+    @Autowired
+    private JournalRecorder journalRecorder;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    public void credit(Account account, BigDecimal amount) {
+        credit(account, FxConversion.none(amount, account.getCurrency()));
+    }
+
+    public void credit(Account account, FxConversion conversion) {
+        BigDecimal amount = conversion.getAmount();
+        int slot = randomSlot(account.getBalanceBuckets());
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Account reference = accountRepository.getById(account.getId());
+            journalRecorder.record(reference, conversion, TransactionType.CREDIT, slot);
+            if (bucketRepository.credit(account.getId(), slot, amount) == 1) {
+                return;
+            }
+            // The routing copy predates an enable or disable; the locked row has the current slot count.
+            Account locked = accountRepository.findByIdForUpdate(account.getId())
+                .orElseThrow(() -> new RuntimeException("Account not found"));
+            if (locked.getBalanceBuckets() == 0) {
+                locked.setBalance(locked.getBalance().add(amount));
+                return;
+            }
+            int current = randomSlot(locked.getBalanceBuckets());
+            if (bucketRepository.credit(account.getId(), current, amount) != 1) {
+                throw new IllegalStateException("Balance bucket " + current + " missing for account " + account.getId());
+            }
+        });
+    }
+
+    public void debit(Account account, BigDecimal amount) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        // Start at a random slot so concurrent debits do not all drain and lock slot 0 first.
+        // A stale slot count only means missed slots, and the consolidating path below covers those.
+        int slots = account.getBalanceBuckets();
+        int first = randomSlot(slots);
+        Boolean debited = tx.execute(status -> {
+            Account reference = accountRepository.getById(account.getId());
+            journalRecorder.record(reference, FxConversion.none(amount, account.getCurrency()), TransactionType.DEBIT, first);
+            for (int i = 0; i < slots; i++) {
+                if (bucketRepository.debitIfCovered(account.getId(), (first + i) % slots, amount) == 1) {
+                    return true;
+                }
+            }
+            status.setRollbackOnly();
+            return false;
+        });
+        if (Boolean.TRUE.equals(debited)) {
+            return;
+        }
+
+        // No single slot covers the amount: pull everything onto the account row and debit it there.
+        tx.executeWithoutResult(status -> {
+            Account locked = consolidate(account.getId());
+            if (locked.getBalance().compareTo(amount) < 0) {
+                throw new RuntimeException("Insufficient funds");
+            }
+            locked.setBalance(locked.getBalance().subtract(amount));
+            journalRecorder.record(locked, amount, TransactionType.DEBIT);
+        });
+    }
+
+    public void enable(String accountNumber, int slots) {
+        if (slots < 1) {
+            throw new IllegalArgumentException("At least one balance bucket is required");
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Account account = removeBuckets(accountNumber);
+            for (int slot = 0; slot < slots; slot++) {
+                bucketRepository.save(new BalanceBucket(account, slot, BigDecimal.ZERO));
+            }
+            account.setBalanceBuckets(slots);
+        });
+    }
+
+    public void disable(String accountNumber) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            removeBuckets(accountNumber).setBalanceBuckets(0));
+    }
+
+    public BigDecimal balance(Long accountId) {
+        return accountRepository.findTotalBalance(accountId);
+    }
+
+    @Scheduled(fixedDelayString = "${hot-accounts.sweep-interval-ms:60000}")
+    public void sweep() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        for (Long accountId : accountRepository.findIdsWithBalanceBuckets()) {
+            tx.executeWithoutResult(status -> consolidate(accountId));
+        }
+    }
+
+    private Account removeBuckets(String accountNumber) {
+        Account account = accountRepository.findByAccountNumberForUpdate(accountNumber)
+            .orElseThrow(() -> new RuntimeException("Account not found"));
+        if (account.getBalanceBuckets() > 0) {
+            consolidate(account.getId());
+            bucketRepository.deleteByAccountId(account.getId());
+        }
+        return account;
+    }
+
+    private static int randomSlot(int slots) {
+        return slots > 0 ? ThreadLocalRandom.current().nextInt(slots) : 0;
+    }
+
+    // Must run inside a transaction; moves every slot's balance onto the account row.
+    Account consolidate(Long accountId) {
+        Account account = accountRepository.findByIdForUpdate(accountId)
+            .orElseThrow(() -> new RuntimeException("Account not found"));
+        BigDecimal swept = BigDecimal.ZERO;
+        for (BalanceBucket bucket : bucketRepository.findByAccountIdForUpdate(accountId)) {
+            swept = swept.add(bucket.getBalance());
+            bucket.setBalance(BigDecimal.ZERO);
+        }
+        if (swept.signum() != 0) {
+            account.setBalance(account.getBalance().add(swept));
+        }
+        return account;
+    }
+}
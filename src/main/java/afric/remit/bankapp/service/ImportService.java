@@ -0,0 +1,507 @@
+package afric.remit.bankapp.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import afric.remit.bankapp.dto.ImportReport;
+import afric.remit.bankapp.dto.ImportRow;
+import afric.remit.bankapp.model.AccountClass;
+import afric.remit.bankapp.model.ImportCheckpoint;
+import afric.remit.bankapp.model.ImportFormat;
+import afric.remit.bankapp.model.TransactionType;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.ImportCheckpointRepository;
+import afric.remit.bankapp.repository.UserRepository;
+import afric.remit.bankapp.repository.projection.AccountNumberIdView;
+import afric.remit.bankapp.repository.projection.UsernameIdView;
+import afric.remit.bankapp.service.fx.FxRateService;
+import javax.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Bulk import of users and accounts from a CSV or NDJSON file.
+ * Lines are parsed one at a time into fixed-size batches. BCrypt hashing of upcoming batches
+ * runs on a worker pool while a single writer inserts earlier batches in file order, so at most
+ * max-pending-batches batches are held in memory whatever the file size.
+ * Each batch is checked for existing usernames and account numbers, inserted with JDBC batches
+ * and committed together with an {@link ImportCheckpoint}; rerunning an import skips every line
+ * up to the checkpoint. Rejected rows are appended to an error file after their batch commits.
+ * Opening balances are posted as credits with their outbox events and daily rollups in the same
+ * transaction, so imported balances still equal their journal net.
+ */
+@Service
+public class ImportService {
+
+    static final String CSV_HEADER = "username,password,email,accountNumber,balance";
+    static final String INSERT_USER = "insert into user (username, password, email) values (?, ?, ?)";
+    static final String INSERT_ACCOUNT = "insert into account "
+        + "(account_number, balance, currency, version, account_class, balance_buckets, user_id) values (?, ?, ?, 0, ?, 0, ?)";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ImportCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private DailyRollupService dailyRollupService;
+
+    @Autowired
+    private FxRateService fxRateService;
+
+    @Autowired
+    private AccountNumberAllocator accountNumberAllocator;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${imports.directory:imports}")
+    private String directory;
+
+    @Value("${imports.batch-size:500}")
+    private int batchSize;
+
+    @Value("${imports.max-pending-batches:4}")
+    private int maxPendingBatches;
+
+    @Value("${imports.hash-parallelism:0}")
+    private int hashParallelism;
+
+    private final ObjectMapper mapper = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+    private volatile ExecutorService hashPool;
+
+    // Stores the uploaded file under the import's name; an import that has already committed rows must be resumed.
+    public void store(String importName, ImportFormat format, InputStream content) throws IOException {
+        if (checkpointRepository.existsById(importName)) {
+            throw new RuntimeException("Import already started");
+        }
+        Files.createDirectories(Paths.get(directory));
+        Files.copy(content, inputFile(importName, format), StandardCopyOption.REPLACE_EXISTING);
+        Files.deleteIfExists(errorFile(importName));
+    }
+
+    public ImportReport run(String importName, ImportFormat format) {
+        Path input = inputFile(importName, format);
+        if (!Files.exists(input)) {
+            throw new RuntimeException("Import not found");
+        }
+        if (!running.add(importName)) {
+            throw new RuntimeException("Import already running");
+        }
+        try {
+            return process(importName, format, input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            running.remove(importName);
+        }
+    }
+
+    private ImportReport process(String importName, ImportFormat format, Path input) throws IOException {
+        long start = System.nanoTime();
+        ImportCheckpoint checkpoint = checkpointRepository.findById(importName)
+            .orElseGet(() -> new ImportCheckpoint(importName));
+        long resumeAfter = checkpoint.getLinesCommitted();
+        Progress progress = new Progress(checkpoint);
+        Path errors = errorFile(importName);
+
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+             BufferedWriter errorWriter = Files.newBufferedWriter(errors, StandardCharsets.UTF_8,
+                 StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            Deque<Batch> pending = new ArrayDeque<>();
+            Batch batch = new Batch();
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                batch.lastLine = lineNumber;
+                if (lineNumber <= resumeAfter || line.trim().isEmpty()
+                        || (format == ImportFormat.CSV && lineNumber == 1 && isHeader(line))) {
+                    continue;
+                }
+                batch.add(lineNumber, line, format);
+                if (batch.rows.size() == batchSize) {
+                    pending.add(hash(batch));
+                    batch = new Batch();
+                    if (pending.size() > maxPendingBatches) {
+                        write(pending.poll(), progress, errorWriter);
+                    }
+                }
+            }
+            if (!batch.rows.isEmpty()) {
+                pending.add(hash(batch));
+            }
+            while (!pending.isEmpty()) {
+                write(pending.poll(), progress, errorWriter);
+            }
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        double rowsPerSecond = elapsedMillis == 0 ? 0 : progress.rowsProcessed * 1000d / elapsedMillis;
+        return new ImportReport(importName, resumeAfter, progress.rowsProcessed, progress.usersImported,
+            progress.accountsImported, progress.rowsFailed, elapsedMillis, rowsPerSecond, errors.toString());
+    }
+
+    private Batch hash(Batch batch) {
+        ExecutorService pool = hashPool();
+        for (Row row : batch.rows) {
+            if (row.error == null && row.newUser) {
+                String password = row.data.getPassword();
+                row.passwordHash = pool.submit(() -> passwordEncoder.encode(password));
+            }
+        }
+        return batch;
+    }
+
+    private void write(Batch batch, Progress progress, BufferedWriter errorWriter)
+            throws IOException {
+        for (Row row : batch.rows) {
+            if (row.passwordHash != null) {
+                try {
+                    row.hashedPassword = row.passwordHash.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Import interrupted", e);
+                } catch (ExecutionException e) {
+                    row.error = "Password hashing failed";
+                }
+            }
+        }
+
+        int[] inserted = new TransactionTemplate(transactionManager).execute(status -> {
+            int[] counts = insert(batch);
+            progress.checkpoint.setLinesCommitted(batch.lastLine);
+            progress.checkpoint.setUsersImported(progress.checkpoint.getUsersImported() + counts[0]);
+            progress.checkpoint.setAccountsImported(progress.checkpoint.getAccountsImported() + counts[1]);
+            progress.checkpoint.setRowsFailed(progress.checkpoint.getRowsFailed() + batch.failedCount());
+            progress.checkpoint.setUpdatedAt(LocalDateTime.now());
+            progress.checkpoint = checkpointRepository.save(progress.checkpoint);
+            return counts;
+        });
+
+        for (Row row : batch.rows) {
+            if (row.error != null) {
+                errorWriter.write(row.lineNumber + "," + quote(row.error) + "," + quote(row.raw));
+                errorWriter.newLine();
+            }
+        }
+        errorWriter.flush();
+        progress.rowsProcessed += batch.rows.size();
+        progress.usersImported += inserted[0];
+        progress.accountsImported += inserted[1];
+        progress.rowsFailed += batch.failedCount();
+    }
+
+    // Returns {users inserted, accounts inserted}; rows rejected here get their error set.
+    private int[] insert(Batch batch) {
+        Set<String> usernames = new HashSet<>();
+        Set<String> accountNumbers = new HashSet<>();
+        for (Row row : batch.rows) {
+            if (row.error == null) {
+                usernames.add(row.data.getUsername());
+                if (row.data.getAccountNumber() != null) {
+                    accountNumbers.add(row.data.getAccountNumber());
+                }
+            }
+        }
+        Map<String, Long> userIds = userIds(usernames);
+        Set<String> takenAccountNumbers = accountNumbers.isEmpty() ? new HashSet<>()
+            : new HashSet<>(accountRepository.findExistingAccountNumbers(accountNumbers));
+
+        Set<String> batchUsernames = new HashSet<>();
+        List<Object[]> userRows = new ArrayList<>();
+        List<Row> accountRows = new ArrayList<>();
+        for (Row row : batch.rows) {
+            if (row.error != null) {
+                continue;
+            }
+            String username = row.data.getUsername();
+            if (row.newUser) {
+                if (userIds.containsKey(username) || !batchUsernames.add(username)) {
+                    row.error = "Username already exists";
+                    continue;
+                }
+            } else if (!userIds.containsKey(username) && !batchUsernames.contains(username)) {
+                row.error = "User not found";
+                continue;
+            }
+            String accountNumber = row.data.getAccountNumber();
+            if (accountNumber != null && !takenAccountNumbers.add(accountNumber)) {
+                row.error = "Account number already exists";
+                if (row.newUser) {
+                    batchUsernames.remove(username);
+                }
+                continue;
+            }
+            if (row.newUser) {
+                userRows.add(new Object[] {username, row.hashedPassword, row.data.getEmail()});
+            }
+            if (accountNumber != null) {
+                accountRows.add(row);
+            }
+        }
+
+        if (!userRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_USER, userRows);
+            userIds.putAll(userIds(batchUsernames));
+        }
+        List<Object[]> accountValues = new ArrayList<>(accountRows.size());
+        for (Row row : accountRows) {
+            BigDecimal balance = row.data.getBalance() == null ? BigDecimal.ZERO : row.data.getBalance();
+            accountValues.add(new Object[] {row.data.getAccountNumber(), balance, fxRateService.getBaseCurrency(),
+                AccountClass.RETAIL.name(), userIds.get(row.data.getUsername())});
+        }
+        if (!accountValues.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ACCOUNT, accountValues);
+            postOpeningBalances(accountRows);
+        }
+        return new int[] {userRows.size(), accountValues.size()};
+    }
+
+    private void postOpeningBalances(List<Row> accountRows) {
+        Map<String, BigDecimal> openingBalances = new HashMap<>();
+        for (Row row : accountRows) {
+            if (row.data.getBalance() != null && row.data.getBalance().signum() > 0) {
+                openingBalances.put(row.data.getAccountNumber(), row.data.getBalance());
+            }
+        }
+        if (openingBalances.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+        List<Object[]> journalRows = new ArrayList<>(openingBalances.size());
+        List<Object[]> rollupRows = new ArrayList<>(openingBalances.size());
+        long minId = Long.MAX_VALUE;
+        long maxId = Long.MIN_VALUE;
+        for (AccountNumberIdView account : accountRepository.findIdsByAccountNumbers(openingBalances.keySet())) {
+            BigDecimal amount = openingBalances.get(account.getAccountNumber());
+            journalRows.add(new Object[] {amount, now, TransactionType.CREDIT.ordinal(), account.getId()});
+            rollupRows.add(DailyRollupService.row(account.getId(), now.toLocalDateTime().toLocalDate(),
+                TransactionType.CREDIT, 0, amount, 1));
+            minId = Math.min(minId, account.getId());
+            maxId = Math.max(maxId, account.getId());
+        }
+        jdbcTemplate.batchUpdate(AccrualService.INSERT_JOURNAL, journalRows);
+        jdbcTemplate.update(AccrualService.INSERT_OUTBOX, minId, maxId, now);
+        dailyRollupService.addAll(rollupRows);
+    }
+
+    private Map<String, Long> userIds(Set<String> usernames) {
+        Map<String, Long> ids = new HashMap<>();
+        if (!usernames.isEmpty()) {
+            for (UsernameIdView view : userRepository.findIdsByUsernames(usernames)) {
+                ids.put(view.getUsername(), view.getId());
+            }
+        }
+        return ids;
+    }
+
+    ImportRow parse(String line, ImportFormat format) throws IOException {
+        if (format == ImportFormat.NDJSON) {
+            return mapper.readValue(line, ImportRow.class);
+        }
+        List<String> fields = splitCsv(line);
+        if (fields.size() < 3 || fields.size() > 5) {
+            throw new IllegalArgumentException("Expected " + CSV_HEADER);
+        }
+        ImportRow row = new ImportRow(blankToNull(fields.get(0)), blankToNull(fields.get(1)),
+            blankToNull(fields.get(2)), null, null);
+        if (fields.size() > 3) {
+            row.setAccountNumber(blankToNull(fields.get(3)));
+        }
+        if (fields.size() > 4 && blankToNull(fields.get(4)) != null) {
+            row.setBalance(new BigDecimal(fields.get(4).trim()));
+        }
+        return row;
+    }
+
+    static String validate(ImportRow row) {
+        if (row.getUsername() == null || row.getUsername().isEmpty()) {
+            return "Username is required";
+        }
+        if (row.getPassword() != null && (row.getEmail() == null || row.getEmail().isEmpty())) {
+            return "Email is required";
+        }
+        if (row.getPassword() == null && row.getAccountNumber() == null) {
+            return "Password is required";
+        }
+        if (row.getBalance() != null && row.getBalance().signum() < 0) {
+            return "Invalid balance";
+        }
+        return null;
+    }
+
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static boolean isHeader(String line) {
+        return line.trim().toLowerCase(Locale.ROOT).startsWith("username,");
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    Path inputFile(String importName, ImportFormat format) {
+        if (!importName.matches("[A-Za-z0-9._-]+")) {
+            throw new RuntimeException("Invalid import name");
+        }
+        return Paths.get(directory, importName + "." + format.name().toLowerCase(Locale.ROOT));
+    }
+
+    Path errorFile(String importName) {
+        return Paths.get(directory, importName + ".errors.csv");
+    }
+
+    private ExecutorService hashPool() {
+        ExecutorService pool = hashPool;
+        if (pool == null) {
+            synchronized (this) {
+                if (hashPool == null) {
+                    int threads = hashParallelism > 0 ? hashParallelism : Runtime.getRuntime().availableProcessors();
+                    hashPool = Executors.newFixedThreadPool(threads, runnable -> {
+                        Thread thread = new Thread(runnable, "import-hash");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+                pool = hashPool;
+            }
+        }
+        return pool;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (hashPool != null) {
+            hashPool.shutdownNow();
+        }
+    }
+
+    private class Batch {
+        final List<Row> rows = new ArrayList<>(batchSize);
+        long lastLine;
+
+        void add(long lineNumber, String raw, ImportFormat format) {
+            Row row = new Row(lineNumber, raw);
+            try {
+                row.data = parse(raw, format);
+                row.error = validate(row.data);
+                if (row.error == null && row.data.getAccountNumber() != null
+                        && accountNumberAllocator.isInRange(row.data.getAccountNumber())) {
+                    row.error = "Account number is in the allocated range";
+                }
+                row.newUser = row.data.getPassword() != null;
+            } catch (IOException | IllegalArgumentException e) {
+                row.error = "Malformed row";
+            }
+            rows.add(row);
+        }
+
+        long failedCount() {
+            return rows.stream().filter(row -> row.error != null).count();
+        }
+    }
+
+    private static class Row {
+        final long lineNumber;
+        final String raw;
+        ImportRow data;
+        boolean newUser;
+        String error;
+        Future<String> passwordHash;
+        String hashedPassword;
+
+        Row(long lineNumber, String raw) {
+            this.lineNumber = lineNumber;
+            this.raw = raw;
+        }
+    }
+
+    private static class Progress {
+        ImportCheckpoint checkpoint;
+        long rowsProcessed;
+        long usersImported;
+        long accountsImported;
+        long rowsFailed;
+
+        Progress(ImportCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package afric.remit.bankapp.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.AccountingJournal;
+import afric.remit.bankapp.model.LedgerOutboxEvent;
+import afric.remit.bankapp.model.TransactionType;
+import afric.remit.bankapp.repository.AccountingJournalRepository;
+import afric.remit.bankapp.repository.LedgerOutboxRepository;
+import afric.remit.bankapp.service.fx.FxConversion;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+
+// Single place journal entries are posted from, so every entry gets its outbox event and daily rollup
+// in the caller's transaction.
+@Component
+public class JournalRecorder {
+
+    @Autowired
+    private AccountingJournalRepository journalRepository;
+
+    @Autowired
+    private LedgerOutboxRepository outboxRepository;
+
+    @Autowired
+    private DailyRollupService dailyRollupService;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public AccountingJournal record(Account account, BigDecimal amount, TransactionType type) {
+        return record(account, FxConversion.none(amount, account.getCurrency()), type);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public AccountingJournal record(Account account, FxConversion conversion, TransactionType type) {
+        return record(account, conversion, type, 0);
+    }
+
+    // Hot accounts pass the balance bucket slot they write, so the rollup row contends no more than the slot does.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public AccountingJournal record(Account account, FxConversion conversion, TransactionType type, int stripe) {
+        AccountingJournal journal = new AccountingJournal(conversion.getAmount(), LocalDateTime.now(), type, account);
+        if (conversion.isCrossCurrency()) {
+            journal.setSourceAmount(conversion.getSourceAmount());
+            journal.setSourceCurrency(conversion.getSourceCurrency());
+            journal.setFxRate(conversion.getRate());
+        }
+        journal = journalRepository.save(journal);
+        outboxRepository.save(new LedgerOutboxEvent(journal, account.getId()));
+        dailyRollupService.add(account.getId(), journal.getTransactionDate().toLocalDate(), type, stripe,
+            journal.getAmount());
+        return journal;
+    }
+}
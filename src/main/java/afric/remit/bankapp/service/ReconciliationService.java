@@ -0,0 +1,169 @@
+package afric.remit.bankapp.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import afric.remit.bankapp.dto.Discrepancy;
+import afric.remit.bankapp.dto.ReconciliationReport;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.AccountingJournalRepository;
+import afric.remit.bankapp.repository.projection.AccountBalanceView;
+import afric.remit.bankapp.repository.projection.IdRange;
+import afric.remit.bankapp.repository.projection.JournalTotalView;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+
+/**
+ * Checks every account balance against the net of its journal entries.
+ * The id space is split into ranges that are reconciled in parallel on a dedicated
+ * fork/join pool, each range with one balance query and one aggregate journal query.
+ * Both queries of a range run in one REPEATABLE_READ transaction so they read the same snapshot;
+ * otherwise a posting committed between them would show up as a discrepancy.
+ * The report lists at most {@code reconciliation.max-discrepancies} and counts the rest.
+ */
+@Service
+public class ReconciliationService {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountingJournalRepository journalRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${reconciliation.chunk-size:10000}")
+    private long chunkSize = 10000;
+
+    @Value("${reconciliation.parallelism:4}")
+    private int parallelism = 4;
+
+    // Pause after each chunk so a run alongside live traffic leaves connections and CPU for it.
+    @Value("${reconciliation.chunk-pause-ms:0}")
+    private long chunkPauseMillis;
+
+    @Value("${reconciliation.max-discrepancies:1000}")
+    private int maxDiscrepancies = 1000;
+
+    public ReconciliationReport reconcile() {
+        long start = System.nanoTime();
+        IdRange range = accountRepository.findIdRange();
+        if (range == null || range.getMinId() == null) {
+            return new ReconciliationReport(0, 0, 0, 0, 0, Collections.emptyList());
+        }
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        ChunkResult result;
+        try {
+            result = pool.invoke(new RangeTask(range.getMinId(), range.getMaxId(), readOnly));
+        } finally {
+            pool.shutdown();
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        double perSecond = elapsedMillis == 0 ? result.accounts : result.accounts * 1000.0 / elapsedMillis;
+        return new ReconciliationReport(result.accounts, result.chunks, elapsedMillis, perSecond,
+            result.discrepancyCount, result.discrepancies);
+    }
+
+    ChunkResult reconcileChunk(long fromId, long toId) {
+        Map<Long, BigDecimal> journalTotals = new HashMap<>();
+        for (JournalTotalView total : journalRepository.sumNetAmountsInRange(fromId, toId)) {
+            journalTotals.put(total.getAccountId(), total.getTotal());
+        }
+
+        ChunkResult result = new ChunkResult(maxDiscrepancies);
+        result.chunks = 1;
+        for (AccountBalanceView account : accountRepository.findBalancesInRange(fromId, toId)) {
+            result.accounts++;
+            BigDecimal balance = account.getBalance() == null ? BigDecimal.ZERO : account.getBalance();
+            BigDecimal journal = journalTotals.getOrDefault(account.getId(), BigDecimal.ZERO);
+            if (balance.compareTo(journal) != 0) {
+                result.discrepancyCount++;
+                if (result.discrepancies.size() >= maxDiscrepancies) {
+                    continue;
+                }
+                result.discrepancies.add(new Discrepancy(account.getId(), account.getAccountNumber(),
+                    balance, journal, balance.subtract(journal)));
+            }
+        }
+        return result;
+    }
+
+    private void throttle() {
+        if (chunkPauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Reconciliation interrupted", e);
+        }
+    }
+
+    static class ChunkResult {
+        final int maxDiscrepancies;
+        long accounts;
+        int chunks;
+        long discrepancyCount;
+        List<Discrepancy> discrepancies = new ArrayList<>();
+
+        ChunkResult(int maxDiscrepancies) {
+            this.maxDiscrepancies = maxDiscrepancies;
+        }
+
+        ChunkResult merge(ChunkResult other) {
+            accounts += other.accounts;
+            chunks += other.chunks;
+            discrepancyCount += other.discrepancyCount;
+            int room = maxDiscrepancies - discrepancies.size();
+            if (room > 0) {
+                discrepancies.addAll(other.discrepancies.subList(0, Math.min(room, other.discrepancies.size())));
+            }
+            return this;
+        }
+    }
+
+    private class RangeTask extends RecursiveTask<ChunkResult> {
+        private final long fromId;
+        private final long toId;
+        private final TransactionTemplate readOnly;
+
+        RangeTask(long fromId, long toId, TransactionTemplate readOnly) {
+            this.fromId = fromId;
+            this.toId = toId;
+            this.readOnly = readOnly;
+        }
+
+        @Override
+        protected ChunkResult compute() {
+            if (toId - fromId < chunkSize) {
+                ChunkResult result = readOnly.execute(status -> reconcileChunk(fromId, toId));
+                throttle();
+                return result;
+            }
+            long mid = fromId + (toId - fromId) / 2;
+            RangeTask left = new RangeTask(fromId, mid, readOnly);
+            RangeTask right = new RangeTask(mid + 1, toId, readOnly);
+            left.fork();
+            ChunkResult rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+    }
+}
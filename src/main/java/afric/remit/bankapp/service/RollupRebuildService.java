@@ -0,0 +1,93 @@
+package afric.remit.bankapp.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import afric.remit.bankapp.dto.RollupRebuildReport;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.projection.IdRange;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+
+/**
+ * Recomputes {@code daily_rollup} from the journal, for instance after a schema change or to
+ * repair drift. Account id ranges are rebuilt in parallel, each in its own transaction that
+ * locks the range's account rows first: postings need a share lock on their account row for the
+ * journal foreign key, so none can slip in between the delete and the re-aggregation.
+ */
+@Service
+public class RollupRebuildService {
+
+    static final String LOCK_ACCOUNTS = "select id from account where id between ? and ? for update";
+    static final String DELETE_ROLLUPS = "delete from daily_rollup where account_id between ? and ?";
+    static final String REBUILD_ROLLUPS =
+        "insert into daily_rollup (total, entry_count, account_id, rollup_day, type, stripe) "
+            + "select sum(j.amount), count(*), j.account_id, cast(j.transaction_date as date), j.type, 0 "
+            + "from accounting_journal j where j.account_id between ? and ? "
+            + "group by j.account_id, cast(j.transaction_date as date), j.type";
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${rollups.rebuild-chunk-size:1000}")
+    private long chunkSize = 1000;
+
+    @Value("${rollups.rebuild-parallelism:4}")
+    private int parallelism = 4;
+
+    public RollupRebuildReport rebuild() {
+        long start = System.nanoTime();
+        RollupRebuildReport report = new RollupRebuildReport(0, 0, 0, 0);
+        IdRange range = accountRepository.findIdRange();
+        if (range == null || range.getMinId() == null) {
+            return report;
+        }
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+        List<Future<Integer>> pending = new ArrayList<>();
+        try {
+            for (long fromId = range.getMinId(); fromId <= range.getMaxId(); fromId += chunkSize) {
+                long chunkFrom = fromId;
+                long chunkTo = Math.min(fromId + chunkSize - 1, range.getMaxId());
+                pending.add(workers.submit(() -> tx.execute(status -> rebuildChunk(chunkFrom, chunkTo))));
+            }
+            for (Future<Integer> future : pending) {
+                try {
+                    report.setRowsWritten(report.getRowsWritten() + future.get());
+                    report.setChunksProcessed(report.getChunksProcessed() + 1);
+                } catch (ExecutionException e) {
+                    report.setChunksFailed(report.getChunksFailed() + 1);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Rollup rebuild interrupted", e);
+        } finally {
+            workers.shutdownNow();
+        }
+
+        report.setElapsedMillis((System.nanoTime() - start) / 1_000_000);
+        return report;
+    }
+
+    int rebuildChunk(long fromId, long toId) {
+        jdbcTemplate.queryForList(LOCK_ACCOUNTS, Long.class, fromId, toId);
+        jdbcTemplate.update(DELETE_ROLLUPS, fromId, toId);
+        return jdbcTemplate.update(REBUILD_ROLLUPS, fromId, toId);
+    }
+}
@@ -0,0 +1,83 @@
+package afric.remit.bankapp.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Service;
+import afric.remit.bankapp.dto.StartupReport;
+import afric.remit.bankapp.dto.StartupTiming;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Summarises where startup time went, from the steps recorded by the application's
+ * {@link BufferingApplicationStartup}: top-level phases in order, and the slowest bean
+ * instantiations (inclusive of the beans they pulled in). Built once when the application is
+ * ready; the buffer is drained so the recorded steps do not stay on the heap.
+ */
+@Service
+public class StartupReportService {
+
+    private static final String BEAN_STEP = "spring.beans.instantiate";
+
+    @Autowired
+    private ApplicationStartup applicationStartup;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${startup.report.top-beans:20}")
+    private int topBeans;
+
+    private volatile StartupReport report;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        List<StartupTiming> phases = new ArrayList<>();
+        List<StartupTiming> beans = new ArrayList<>();
+        if (applicationStartup instanceof BufferingApplicationStartup) {
+            StartupTimeline timeline = ((BufferingApplicationStartup) applicationStartup).drainBufferedTimeline();
+            for (StartupTimeline.TimelineEvent event : timeline.getEvents()) {
+                StartupStep step = event.getStartupStep();
+                long millis = event.getDuration().toMillis();
+                if (BEAN_STEP.equals(step.getName())) {
+                    beans.add(new StartupTiming(beanName(step), millis));
+                } else if (step.getParentId() == null) {
+                    phases.add(new StartupTiming(step.getName(), millis));
+                }
+            }
+        }
+        int instantiated = beans.size();
+        beans.sort(Comparator.comparingLong(StartupTiming::getMillis).reversed());
+        report = new StartupReport(Arrays.asList(environment.getActiveProfiles()), uptime, instantiated, phases,
+            beans.stream().limit(topBeans).collect(Collectors.toList()));
+    }
+
+    public StartupReport report() {
+        StartupReport current = report;
+        return current != null ? current
+            : new StartupReport(Arrays.asList(environment.getActiveProfiles()), 0, 0,
+                Collections.emptyList(), Collections.emptyList());
+    }
+
+    private String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return step.getName();
+    }
+}
@@ -0,0 +1,16 @@
+package afric.remit.bankapp.service.concurrency;
+
+import afric.remit.bankapp.model.Account;
+import java.util.function.Consumer;
+
+/**
+ * Applies a balance mutation to one account under some concurrency control.
+ * The mutation runs inside the strategy's transaction and may be invoked more than once
+ * when a strategy retries, so it must only touch the account it is given and the journal.
+ */
+public interface BalanceUpdateStrategy {
+
+    String name();
+
+    void update(String accountNumber, Consumer<Account> mutation);
+}
@@ -0,0 +1,68 @@
+package afric.remit.bankapp.service.concurrency;
+
+import org.springframework.stereotype.Component;
+import afric.remit.bankapp.dto.ConcurrencyStats;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+
+@Component
+public class ConcurrencyMetrics {
+
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    void attempt(String strategy) {
+        counters(strategy).attempts.increment();
+    }
+
+    void commit(String strategy) {
+        counters(strategy).commits.increment();
+    }
+
+    void conflict(String strategy) {
+        counters(strategy).conflicts.increment();
+    }
+
+    void retry(String strategy) {
+        counters(strategy).retries.increment();
+    }
+
+    void exhausted(String strategy) {
+        counters(strategy).exhausted.increment();
+    }
+
+    void lockWait(String strategy, long nanos) {
+        counters(strategy).lockWaitNanos.add(nanos);
+    }
+
+    public List<ConcurrencyStats> snapshot() {
+        List<ConcurrencyStats> result = new ArrayList<>();
+        for (Map.Entry<String, Counters> entry : new TreeMap<>(counters).entrySet()) {
+            Counters c = entry.getValue();
+            result.add(new ConcurrencyStats(entry.getKey(), c.attempts.sum(), c.commits.sum(), c.conflicts.sum(),
+                c.retries.sum(), c.exhausted.sum(), c.lockWaitNanos.sum() / 1_000_000));
+        }
+        return result;
+    }
+
+    public void reset() {
+        counters.clear();
+    }
+
+    private Counters counters(String strategy) {
+        return counters.computeIfAbsent(strategy, s -> new Counters());
+    }
+
+    private static class Counters {
+        final LongAdder attempts = new LongAdder();
+        final LongAdder commits = new LongAdder();
+        final LongAdder conflicts = new LongAdder();
+        final LongAdder retries = new LongAdder();
+        final LongAdder exhausted = new LongAdder();
+        final LongAdder lockWaitNanos = new LongAdder();
+    }
+}
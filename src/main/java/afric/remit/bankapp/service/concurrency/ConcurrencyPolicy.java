@@ -0,0 +1,48 @@
+package afric.remit.bankapp.service.concurrency;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.AccountClass;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.PostConstruct;
+
+
+// Chooses the balance update strategy from the account's class.
+@Component
+public class ConcurrencyPolicy {
+
+    @Autowired
+    private List<BalanceUpdateStrategy> strategies;
+
+    @Value("${concurrency.strategy.retail:optimistic}")
+    private String retailStrategy;
+
+    @Value("${concurrency.strategy.merchant:pessimistic}")
+    private String merchantStrategy;
+
+    private final Map<AccountClass, BalanceUpdateStrategy> byClass = new EnumMap<>(AccountClass.class);
+
+    @PostConstruct
+    void init() {
+        byClass.put(AccountClass.RETAIL, named(retailStrategy));
+        byClass.put(AccountClass.MERCHANT, named(merchantStrategy));
+    }
+
+    public BalanceUpdateStrategy forAccount(Account account) {
+        AccountClass accountClass = account.getAccountClass();
+        return byClass.get(accountClass == null ? AccountClass.RETAIL : accountClass);
+    }
+
+    private BalanceUpdateStrategy named(String name) {
+        for (BalanceUpdateStrategy strategy : strategies) {
+            if (strategy.name().equalsIgnoreCase(name)) {
+                return strategy;
+            }
+        }
+        throw new IllegalStateException("Unknown balance update strategy: " + name);
+    }
+}
@@ -0,0 +1,80 @@
+package afric.remit.bankapp.service.concurrency;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.repository.AccountRepository;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+
+// Reads without locking and relies on the @Version check at flush; conflicts are retried with full-jitter backoff.
+@Component
+public class OptimisticBalanceUpdateStrategy implements BalanceUpdateStrategy {
+
+    public static final String NAME = "optimistic";
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ConcurrencyMetrics metrics;
+
+    @Value("${concurrency.optimistic.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    @Value("${concurrency.optimistic.backoff-base-ms:2}")
+    private long backoffBaseMillis = 2;
+
+    @Value("${concurrency.optimistic.backoff-max-ms:50}")
+    private long backoffMaxMillis = 50;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void update(String accountNumber, Consumer<Account> mutation) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        for (int attempt = 1; ; attempt++) {
+            metrics.attempt(NAME);
+            try {
+                tx.executeWithoutResult(status -> {
+                    Account account = accountRepository.findByAccountNumber(accountNumber)
+                        .orElseThrow(() -> new RuntimeException("Account not found"));
+                    mutation.accept(account);
+                    accountRepository.saveAndFlush(account);
+                });
+                metrics.commit(NAME);
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                metrics.conflict(NAME);
+                if (attempt >= maxAttempts) {
+                    metrics.exhausted(NAME);
+                    throw new RuntimeException("Concurrent modification detected", e);
+                }
+                metrics.retry(NAME);
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(backoffMaxMillis, backoffBaseMillis << Math.min(attempt, 20));
+        long sleep = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        try {
+            Thread.sleep(sleep);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while retrying balance update", e);
+        }
+    }
+}
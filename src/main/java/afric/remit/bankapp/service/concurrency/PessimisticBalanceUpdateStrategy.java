@@ -0,0 +1,45 @@
+package afric.remit.bankapp.service.concurrency;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.repository.AccountRepository;
+import java.util.function.Consumer;
+
+
+// Serialises writers on the row with SELECT ... FOR UPDATE; never conflicts, but callers queue on the lock.
+@Component
+public class PessimisticBalanceUpdateStrategy implements BalanceUpdateStrategy {
+
+    public static final String NAME = "pessimistic";
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ConcurrencyMetrics metrics;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void update(String accountNumber, Consumer<Account> mutation) {
+        metrics.attempt(NAME);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            long lockStart = System.nanoTime();
+            Account account = accountRepository.findByAccountNumberForUpdate(accountNumber)
+                .orElseThrow(() -> new RuntimeException("Account not found"));
+            metrics.lockWait(NAME, System.nanoTime() - lockStart);
+            mutation.accept(account);
+            accountRepository.save(account);
+        });
+        metrics.commit(NAME);
+    }
+}
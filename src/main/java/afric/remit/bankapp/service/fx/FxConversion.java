@@ -0,0 +1,24 @@
+package afric.remit.bankapp.service.fx;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.math.BigDecimal;
+
+// An amount in the account's currency together with what was actually sent.
+@Data
+@AllArgsConstructor
+public class FxConversion {
+    private BigDecimal amount;
+    private String currency;
+    private BigDecimal sourceAmount;
+    private String sourceCurrency;
+    private BigDecimal rate;
+
+    public static FxConversion none(BigDecimal amount, String currency) {
+        return new FxConversion(amount, currency, amount, currency, BigDecimal.ONE);
+    }
+
+    public boolean isCrossCurrency() {
+        return !currency.equals(sourceCurrency);
+    }
+}
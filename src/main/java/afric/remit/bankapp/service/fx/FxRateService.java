@@ -0,0 +1,130 @@
+package afric.remit.bankapp.service.fx;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import afric.remit.bankapp.dto.FxStats;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PostConstruct;
+
+
+/**
+ * Serves FX conversions from the current {@link FxRateTable} and reloads it from the local rate
+ * file when the file changes. A reload parses into a fresh table and publishes it with a single
+ * volatile write; a file that fails to parse leaves the previous snapshot in place.
+ *
+ * The file has one {@code CODE,rate} line per currency, quoted as units per one base currency;
+ * blank lines and lines starting with {@code #} are ignored.
+ */
+@Service
+public class FxRateService {
+
+    @Value("${fx.base-currency:USD}")
+    private String baseCurrency = "USD";
+
+    @Value("${fx.rates-file:fx-rates.csv}")
+    private String ratesFile = "fx-rates.csv";
+
+    private volatile FxRateTable table;
+    private volatile String lastError;
+    private final AtomicLong refreshFailures = new AtomicLong();
+    private FileTime loadedModified;
+    private long version;
+
+    @PostConstruct
+    public void init() {
+        table = FxRateTable.baseOnly(baseCurrency);
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${fx.refresh-interval-ms:30000}", initialDelayString = "${fx.refresh-interval-ms:30000}")
+    public synchronized void refresh() {
+        Path path = Paths.get(ratesFile);
+        try {
+            FileTime modified = Files.getLastModifiedTime(path);
+            if (modified.equals(loadedModified)) {
+                return;
+            }
+            table = new FxRateTable(baseCurrency, parse(path), ++version, LocalDateTime.now());
+            loadedModified = modified;
+            lastError = null;
+        } catch (IOException | RuntimeException e) {
+            refreshFailures.incrementAndGet();
+            lastError = ratesFile + ": " + e.getMessage();
+        }
+    }
+
+    public FxRateTable current() {
+        return table;
+    }
+
+    public String getBaseCurrency() {
+        return baseCurrency;
+    }
+
+    public boolean supports(String currency) {
+        return table.supports(currency);
+    }
+
+    // A null source currency means the amount is already in the target currency.
+    public FxConversion convert(BigDecimal amount, String sourceCurrency, String targetCurrency) {
+        if (sourceCurrency == null || sourceCurrency.equals(targetCurrency)) {
+            return FxConversion.none(amount, targetCurrency);
+        }
+        FxRateTable snapshot = table;
+        int from = snapshot.indexOf(sourceCurrency);
+        int to = snapshot.indexOf(targetCurrency);
+        if (from < 0 || to < 0) {
+            throw new RuntimeException("Unsupported currency " + (from < 0 ? sourceCurrency : targetCurrency));
+        }
+        return new FxConversion(snapshot.convert(amount, from, to), targetCurrency,
+            amount, sourceCurrency, snapshot.crossRate(from, to));
+    }
+
+    public FxStats stats() {
+        FxRateTable snapshot = table;
+        return new FxStats(snapshot.getBaseCurrency(), snapshot.getCurrencies(), snapshot.getVersion(),
+            snapshot.getLoadedAt(), refreshFailures.get(), lastError);
+    }
+
+    static Map<String, Double> parse(Path path) throws IOException {
+        Map<String, Double> rates = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(",");
+                if (fields.length != 2) {
+                    throw new IllegalArgumentException("Line " + lineNumber + " is not CODE,rate");
+                }
+                String currency = fields[0].trim();
+                double rate;
+                try {
+                    rate = Double.parseDouble(fields[1].trim());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Line " + lineNumber + " has an invalid rate");
+                }
+                if (rates.put(currency, rate) != null) {
+                    throw new IllegalArgumentException("Line " + lineNumber + " repeats " + currency);
+                }
+            }
+        }
+        return rates;
+    }
+}
@@ -0,0 +1,178 @@
+package afric.remit.bankapp.service.fx;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Immutable snapshot of FX rates against one base currency, held in primitive arrays.
+ * A three-letter code packs into an int below 26^3 that indexes straight into {@code slotByCode},
+ * so looking up a rate is two array reads and a division: no hashing, boxing or allocation.
+ * Decimal cross rates for every pair are computed once per snapshot, so a conversion only
+ * allocates its result.
+ * Refreshes build a new table and publish it; readers keep whichever snapshot they picked up.
+ */
+public final class FxRateTable {
+
+    static final int CODE_SPACE = 26 * 26 * 26;
+
+    private final String baseCurrency;
+    private final long version;
+    private final LocalDateTime loadedAt;
+    // slot + 1 for each packed code, 0 where the currency is not quoted.
+    private final short[] slotByCode = new short[CODE_SPACE];
+    private final String[] currencies;
+    // Units of each currency per one unit of the base currency.
+    private final double[] perBase;
+    private final int[] fractionDigits;
+    // Row-major [from * size + to].
+    private final BigDecimal[] crossRates;
+
+    FxRateTable(String baseCurrency, Map<String, Double> perBaseRates, long version, LocalDateTime loadedAt) {
+        if (pack(baseCurrency) < 0) {
+            throw new IllegalArgumentException("Invalid base currency " + baseCurrency);
+        }
+        this.baseCurrency = baseCurrency;
+        this.version = version;
+        this.loadedAt = loadedAt;
+
+        int size = perBaseRates.size() + (perBaseRates.containsKey(baseCurrency) ? 0 : 1);
+        if (size > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many currencies: " + size);
+        }
+        currencies = new String[size];
+        perBase = new double[size];
+        fractionDigits = new int[size];
+        add(0, baseCurrency, 1.0);
+        int slot = 1;
+        for (Map.Entry<String, Double> rate : perBaseRates.entrySet()) {
+            if (!rate.getKey().equals(baseCurrency)) {
+                add(slot++, rate.getKey(), rate.getValue());
+            } else if (rate.getValue() != 1.0) {
+                throw new IllegalArgumentException("Base currency " + baseCurrency + " must be quoted at 1");
+            }
+        }
+
+        crossRates = new BigDecimal[size * size];
+        for (int from = 0; from < size; from++) {
+            BigDecimal fromPerBase = BigDecimal.valueOf(perBase[from]);
+            for (int to = 0; to < size; to++) {
+                crossRates[from * size + to] = from == to ? BigDecimal.ONE
+                    : BigDecimal.valueOf(perBase[to]).divide(fromPerBase, MathContext.DECIMAL64);
+            }
+        }
+    }
+
+    public static FxRateTable baseOnly(String baseCurrency) {
+        return new FxRateTable(baseCurrency, Collections.emptyMap(), 0, LocalDateTime.now());
+    }
+
+    // Packs an upper-case ISO 4217 code into [0, 26^3), or -1 if it is not three letters A-Z.
+    public static int pack(CharSequence currency) {
+        if (currency == null || currency.length() != 3) {
+            return -1;
+        }
+        int code = 0;
+        for (int i = 0; i < 3; i++) {
+            int letter = currency.charAt(i) - 'A';
+            if (letter < 0 || letter >= 26) {
+                return -1;
+            }
+            code = code * 26 + letter;
+        }
+        return code;
+    }
+
+    // Snapshot-local index of the currency, or -1 when it is not quoted.
+    public int indexOf(CharSequence currency) {
+        int code = pack(currency);
+        return code < 0 ? -1 : slotByCode[code] - 1;
+    }
+
+    public boolean supports(CharSequence currency) {
+        return indexOf(currency) >= 0;
+    }
+
+    // Units of the target currency per unit of the source; both must be indexes from this snapshot.
+    public double rate(int from, int to) {
+        return perBase[to] / perBase[from];
+    }
+
+    public double rate(CharSequence from, CharSequence to) {
+        return rate(require(from), require(to));
+    }
+
+    // The same rate as a decimal to 16 significant digits; this is what conversions multiply by.
+    public BigDecimal crossRate(int from, int to) {
+        return crossRates[from * currencies.length + to];
+    }
+
+    // Converted amount rounded to the target currency's minor units.
+    public BigDecimal convert(BigDecimal amount, CharSequence from, CharSequence to) {
+        return convert(amount, require(from), require(to));
+    }
+
+    public BigDecimal convert(BigDecimal amount, int from, int to) {
+        if (from == to) {
+            return amount;
+        }
+        return amount.multiply(crossRate(from, to))
+            .setScale(fractionDigits[to], RoundingMode.HALF_EVEN);
+    }
+
+    public String getBaseCurrency() {
+        return baseCurrency;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getLoadedAt() {
+        return loadedAt;
+    }
+
+    public List<String> getCurrencies() {
+        String[] sorted = currencies.clone();
+        Arrays.sort(sorted);
+        return Arrays.asList(sorted);
+    }
+
+    private int require(CharSequence currency) {
+        int index = indexOf(currency);
+        if (index < 0) {
+            throw new RuntimeException("Unsupported currency " + currency);
+        }
+        return index;
+    }
+
+    private void add(int slot, String currency, double rate) {
+        int code = pack(currency);
+        if (code < 0) {
+            throw new IllegalArgumentException("Invalid currency code " + currency);
+        }
+        if (!(rate > 0) || Double.isInfinite(rate)) {
+            throw new IllegalArgumentException("Invalid rate " + rate + " for " + currency);
+        }
+        currencies[slot] = currency;
+        perBase[slot] = rate;
+        fractionDigits[slot] = fractionDigits(currency);
+        slotByCode[code] = (short) (slot + 1);
+    }
+
+    private static int fractionDigits(String currency) {
+        try {
+            int digits = Currency.getInstance(currency).getDefaultFractionDigits();
+            return digits < 0 ? 2 : digits;
+        } catch (IllegalArgumentException e) {
+            return 2;
+        }
+    }
+}
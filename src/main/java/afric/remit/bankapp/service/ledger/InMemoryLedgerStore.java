@@ -0,0 +1,264 @@
+package afric.remit.bankapp.service.ledger;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import afric.remit.bankapp.dto.LedgerEntry;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.TransactionType;
+import afric.remit.bankapp.model.User;
+import afric.remit.bankapp.service.fx.FxConversion;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * Process-local ledger for simulations and as a throughput baseline without a database.
+ * Balances are minor units (two decimals, the scale of the balance column) held in
+ * {@link AtomicLongArray} pages indexed by a dense primitive account id, so a posting is an atomic
+ * add or CAS on a long; debits retry their CAS until they either cover the amount or see it
+ * cannot be covered. Pages are allocated on first use and never move.
+ * The journal is append-only: a posting reserves its positions with one atomic add before it
+ * changes any balance, so a full journal rejects the posting instead of leaving it unrecorded, then
+ * writes its fields into primitive segment arrays, publishing each entry by setting its timestamp last.
+ *
+ * Nothing survives a restart. Outbox events, rollups and hot-account buckets are database
+ * features and are not maintained here; the endpoints built on them are switched off or refuse
+ * requests while this store is selected.
+ */
+@Component
+@ConditionalOnProperty(name = "ledger.store", havingValue = "memory")
+public class InMemoryLedgerStore implements LedgerStore {
+
+    private static final int SCALE = 2;
+    private static final int SEGMENT_BITS = 16;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_BITS;
+    private static final int MAX_SEGMENTS = 1 << 15;
+    private static final int PAGE_BITS = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int MAX_PAGES = 1 << 16;
+    private static final long MAX_ACCOUNTS = (long) MAX_PAGES * PAGE_SIZE;
+    private static final long MAX_ENTRIES = (long) MAX_SEGMENTS * SEGMENT_SIZE;
+
+    private final ConcurrentHashMap<String, AccountSlot> byNumber = new ConcurrentHashMap<>();
+    private final AtomicLong nextAccountId = new AtomicLong();
+    private final AtomicReferenceArray<AtomicLongArray> balancePages = new AtomicReferenceArray<>(MAX_PAGES);
+
+    private final AtomicReferenceArray<Segment> segments = new AtomicReferenceArray<>(MAX_SEGMENTS);
+    private final AtomicLong journalLength = new AtomicLong();
+
+    @Override
+    public Account open(String accountNumber, BigDecimal openingBalance, String currency, User user) {
+        long minor = toMinor(openingBalance);
+        if (minor < 0) {
+            throw new RuntimeException("Opening balance must not be negative");
+        }
+        boolean[] opened = new boolean[1];
+        // The id is only taken once the number is known to be free, so a duplicate costs no slot.
+        // The balance is in place before the account becomes visible to postings.
+        AccountSlot slot = byNumber.computeIfAbsent(accountNumber, number -> {
+            long id = nextAccountId.getAndUpdate(next -> next < MAX_ACCOUNTS ? next + 1 : next);
+            if (id >= MAX_ACCOUNTS) {
+                throw new IllegalStateException("In-memory ledger is full");
+            }
+            page((int) id).set(offset((int) id), minor);
+            opened[0] = true;
+            return new AccountSlot((int) id, number, currency, user);
+        });
+        if (!opened[0]) {
+            throw new RuntimeException("Account number already in use");
+        }
+        return snapshot(slot);
+    }
+
+    @Override
+    public Optional<Account> findAccount(String accountNumber) {
+        AccountSlot slot = byNumber.get(accountNumber);
+        return slot == null ? Optional.empty() : Optional.of(snapshot(slot));
+    }
+
+    @Override
+    public void credit(Account account, FxConversion conversion) {
+        long amount = toMinor(conversion.getAmount());
+        int id = requireId(account);
+        long position = reserve(1);
+        page(id).getAndAdd(offset(id), amount);
+        write(position, id, amount, TransactionType.CREDIT);
+    }
+
+    // Accounts and amounts are checked and the batch's journal positions reserved before the first
+    // balance changes, so a rejected batch leaves no trace and the batch is all-or-none without a
+    // transaction.
+    @Override
+    public void creditAll(List<Account> accounts, List<List<FxConversion>> credits) {
+        int[] ids = new int[accounts.size()];
+        long[][] amounts = new long[ids.length][];
+        int postings = 0;
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = requireId(accounts.get(i));
+            List<FxConversion> conversions = credits.get(i);
+            amounts[i] = new long[conversions.size()];
+            for (int c = 0; c < amounts[i].length; c++) {
+                amounts[i][c] = toMinor(conversions.get(c).getAmount());
+            }
+            postings += amounts[i].length;
+        }
+        long position = reserve(postings);
+        for (int i = 0; i < ids.length; i++) {
+            for (long amount : amounts[i]) {
+                page(ids[i]).getAndAdd(offset(ids[i]), amount);
+                write(position++, ids[i], amount, TransactionType.CREDIT);
+            }
+        }
+    }
+
+    @Override
+    public void debit(Account account, BigDecimal amount) {
+        long minor = toMinor(amount);
+        int id = requireId(account);
+        AtomicLongArray page = page(id);
+        int offset = offset(id);
+        long balance;
+        do {
+            balance = page.get(offset);
+            if (balance < minor) {
+                throw new RuntimeException("Insufficient funds");
+            }
+        } while (!page.compareAndSet(offset, balance, balance - minor));
+        // Reserved after the CAS, so a debit refused for funds does not leave an empty position behind;
+        // if the journal is full the amount is put back before the debit is rejected.
+        long position;
+        try {
+            position = reserve(1);
+        } catch (IllegalStateException e) {
+            page.getAndAdd(offset, minor);
+            throw e;
+        }
+        write(position, id, minor, TransactionType.DEBIT);
+    }
+
+    @Override
+    public BigDecimal balance(String accountNumber) {
+        int id = requireSlot(accountNumber).id;
+        return BigDecimal.valueOf(page(id).get(offset(id)), SCALE);
+    }
+
+    @Override
+    public List<LedgerEntry> entries(String accountNumber) {
+        AccountSlot slot = requireSlot(accountNumber);
+        List<LedgerEntry> entries = new ArrayList<>();
+        long length = journalLength.get();
+        for (long position = 0; position < length; position++) {
+            Segment segment = segments.get((int) (position >>> SEGMENT_BITS));
+            int offset = (int) (position & (SEGMENT_SIZE - 1));
+            // An unpublished entry belongs to a posting still in flight; it is not part of the ledger yet.
+            long postedAt = segment == null ? 0 : segment.postedAt.get(offset);
+            if (postedAt == 0 || segment.accountIds[offset] != slot.id) {
+                continue;
+            }
+            entries.add(new LedgerEntry(BigDecimal.valueOf(segment.amounts[offset], SCALE), slot.currency,
+                TransactionType.values()[segment.types[offset]],
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(postedAt), ZoneId.systemDefault())));
+        }
+        return entries;
+    }
+
+    public long journalLength() {
+        return journalLength.get();
+    }
+
+    // Claims count consecutive positions; the length never passes the journal's capacity.
+    private long reserve(int count) {
+        long position = journalLength.getAndUpdate(length -> length + count <= MAX_ENTRIES ? length + count : length);
+        if (position + count > MAX_ENTRIES) {
+            throw new IllegalStateException("In-memory journal is full");
+        }
+        return position;
+    }
+
+    private void write(long position, int accountId, long amount, TransactionType type) {
+        int segmentIndex = (int) (position >>> SEGMENT_BITS);
+        Segment segment = segments.get(segmentIndex);
+        if (segment == null) {
+            segments.compareAndSet(segmentIndex, null, new Segment());
+            segment = segments.get(segmentIndex);
+        }
+        int offset = (int) (position & (SEGMENT_SIZE - 1));
+        segment.accountIds[offset] = accountId;
+        segment.amounts[offset] = amount;
+        segment.types[offset] = (byte) type.ordinal();
+        segment.postedAt.set(offset, System.currentTimeMillis());
+    }
+
+    private AtomicLongArray page(int id) {
+        int pageIndex = id >>> PAGE_BITS;
+        AtomicLongArray page = balancePages.get(pageIndex);
+        if (page == null) {
+            balancePages.compareAndSet(pageIndex, null, new AtomicLongArray(PAGE_SIZE));
+            page = balancePages.get(pageIndex);
+        }
+        return page;
+    }
+
+    private static int offset(int id) {
+        return id & (PAGE_SIZE - 1);
+    }
+
+    // Accounts handed out by this store carry their slot id, so postings skip the account number lookup.
+    private int requireId(Account account) {
+        Long id = account.getId();
+        if (id == null || id < 0 || id >= nextAccountId.get()) {
+            throw new RuntimeException("Account not found");
+        }
+        return id.intValue();
+    }
+
+    private AccountSlot requireSlot(String accountNumber) {
+        AccountSlot slot = byNumber.get(accountNumber);
+        if (slot == null) {
+            throw new RuntimeException("Account not found");
+        }
+        return slot;
+    }
+
+    private Account snapshot(AccountSlot slot) {
+        Account account = new Account(slot.accountNumber, BigDecimal.valueOf(page(slot.id).get(offset(slot.id)), SCALE),
+            slot.currency, slot.user);
+        account.setId((long) slot.id);
+        return account;
+    }
+
+    private static long toMinor(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static final class AccountSlot {
+        final int id;
+        final String accountNumber;
+        final String currency;
+        final User user;
+
+        AccountSlot(int id, String accountNumber, String currency, User user) {
+            this.id = id;
+            this.accountNumber = accountNumber;
+            this.currency = currency;
+            this.user = user;
+        }
+    }
+
+    private static final class Segment {
+        final int[] accountIds = new int[SEGMENT_SIZE];
+        final long[] amounts = new long[SEGMENT_SIZE];
+        final byte[] types = new byte[SEGMENT_SIZE];
+        final AtomicLongArray postedAt = new AtomicLongArray(SEGMENT_SIZE);
+    }
+}
@@ -0,0 +1,125 @@
+package afric.remit.bankapp.service.ledger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import afric.remit.bankapp.dto.LedgerEntry;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.AccountingJournal;
+import afric.remit.bankapp.model.TransactionType;
+import afric.remit.bankapp.model.User;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.AccountingJournalRepository;
+import afric.remit.bankapp.service.HotAccountService;
+import afric.remit.bankapp.service.JournalRecorder;
+import afric.remit.bankapp.service.concurrency.ConcurrencyPolicy;
+import afric.remit.bankapp.service.fx.FxConversion;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+
+// Transactions are opened by the balance update strategy so that optimistic conflicts can be retried.
+@Component
+@ConditionalOnProperty(name = "ledger.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaLedgerStore implements LedgerStore {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountingJournalRepository journalRepository;
+
+    @Autowired
+    private JournalRecorder journalRecorder;
+
+    @Autowired
+    private ConcurrencyPolicy concurrencyPolicy;
+
+    @Autowired
+    private HotAccountService hotAccountService;
+
+    @Override
+    public Account open(String accountNumber, BigDecimal openingBalance, String currency, User user) {
+        return accountRepository.save(new Account(accountNumber, openingBalance, currency, user));
+    }
+
+    // Served from the second-level cache; only used for routing, the strategies re-read the row.
+    @Override
+    public Optional<Account> findAccount(String accountNumber) {
+        return accountRepository.findByAccountNumber(accountNumber);
+    }
+
+    @Override
+    public void credit(Account target, FxConversion conversion) {
+        if (target.getBalanceBuckets() > 0) {
+            hotAccountService.credit(target, conversion);
+            return;
+        }
+        concurrencyPolicy.forAccount(target).update(target.getAccountNumber(), account -> {
+            account.setBalance(account.getBalance().add(conversion.getAmount()));
+            journalRecorder.record(account, conversion, TransactionType.CREDIT);
+        });
+    }
+
+    // One transaction for the whole batch, so it costs one commit however many accounts it touches.
+    @Override
+    @Transactional
+    public void creditAll(List<Account> targets, List<List<FxConversion>> credits) {
+        for (int i = 0; i < targets.size(); i++) {
+            Account target = targets.get(i);
+            if (target.getBalanceBuckets() > 0) {
+                for (FxConversion conversion : credits.get(i)) {
+                    hotAccountService.credit(target, conversion);
+                }
+                continue;
+            }
+            Account locked = accountRepository.findByIdForUpdate(target.getId())
+                .orElseThrow(() -> new RuntimeException("Account not found"));
+            for (FxConversion conversion : credits.get(i)) {
+                locked.setBalance(locked.getBalance().add(conversion.getAmount()));
+                journalRecorder.record(locked, conversion, TransactionType.CREDIT);
+            }
+        }
+    }
+
+    @Override
+    public void debit(Account target, BigDecimal amount) {
+        if (target.getBalanceBuckets() > 0) {
+            hotAccountService.debit(target, amount);
+            return;
+        }
+        concurrencyPolicy.forAccount(target).update(target.getAccountNumber(), account -> {
+            if (account.getBalance().compareTo(amount) < 0) {
+                throw new RuntimeException("Insufficient funds");
+            }
+
+            account.setBalance(account.getBalance().subtract(amount));
+            journalRecorder.record(account, amount, TransactionType.DEBIT);
+        });
+    }
+
+    @Override
+    public BigDecimal balance(String accountNumber) {
+        return accountRepository.findTotalBalance(require(accountNumber).getId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LedgerEntry> entries(String accountNumber) {
+        Account account = require(accountNumber);
+        List<AccountingJournal> journal = journalRepository.findByAccountIdOrderByIdAsc(account.getId());
+        List<LedgerEntry> entries = new ArrayList<>(journal.size());
+        for (AccountingJournal entry : journal) {
+            entries.add(new LedgerEntry(entry.getAmount(), entry.getCurrency(), entry.getType(),
+                entry.getTransactionDate()));
+        }
+        return entries;
+    }
+
+    private Account require(String accountNumber) {
+        return findAccount(accountNumber).orElseThrow(() -> new RuntimeException("Account not found"));
+    }
+}
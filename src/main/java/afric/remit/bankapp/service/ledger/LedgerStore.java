@@ -0,0 +1,41 @@
+package afric.remit.bankapp.service.ledger;
+
+import afric.remit.bankapp.dto.LedgerEntry;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.User;
+import afric.remit.bankapp.service.fx.FxConversion;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Storage beneath {@link afric.remit.bankapp.service.AccountService}: account lookup plus the
+ * atomic balance-and-journal postings. Implementations must keep every account's balance equal
+ * to its opening balance plus the net of its journal entries, under any number of concurrent
+ * callers, and must reject a debit the balance does not cover with "Insufficient funds" without
+ * posting anything.
+ *
+ * Selected with {@code ledger.store}: {@code jpa} (default) or {@code memory}.
+ */
+public interface LedgerStore {
+
+    // The account number must be unused.
+    Account open(String accountNumber, BigDecimal openingBalance, String currency, User user);
+
+    // A point-in-time copy for routing and validation; its balance may already be stale.
+    Optional<Account> findAccount(String accountNumber);
+
+    // The conversion's amount is already in the account's currency.
+    void credit(Account account, FxConversion conversion);
+
+    // credits.get(i) goes to accounts.get(i), in order. Either every credit is posted or, when
+    // this throws, none is. Callers pass accounts in ascending id order so batches cannot deadlock.
+    void creditAll(List<Account> accounts, List<List<FxConversion>> credits);
+
+    void debit(Account account, BigDecimal amount);
+
+    BigDecimal balance(String accountNumber);
+
+    // Oldest first.
+    List<LedgerEntry> entries(String accountNumber);
+}
@@ -0,0 +1,155 @@
+package afric.remit.bankapp.service.limiter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import javax.annotation.PostConstruct;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Caps in-flight requests at a limit that follows observed latency (gradient style).
+ * Each sampling window compares its average latency against a slowly moving baseline; when the
+ * database slows down the ratio drops below one and the limit shrinks, so excess requests are
+ * shed instead of queueing on Tomcat threads. When latency returns to baseline the limit grows
+ * by a small headroom, but only while traffic actually uses it.
+ * Acquire and release are lock-free; the thread that closes a window recomputes the limit.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    @Value("${load-shedding.concurrency.initial-limit:50}")
+    private int initialLimit;
+
+    @Value("${load-shedding.concurrency.min-limit:4}")
+    private int minLimit;
+
+    @Value("${load-shedding.concurrency.max-limit:200}")
+    private int maxLimit;
+
+    @Value("${load-shedding.concurrency.window-ms:100}")
+    private long windowMillis;
+
+    @Value("${load-shedding.concurrency.min-window-samples:10}")
+    private int minWindowSamples;
+
+    @Value("${load-shedding.concurrency.baseline-windows:100}")
+    private int baselineWindows;
+
+    @Value("${load-shedding.concurrency.queue-size:4}")
+    private int queueSize;
+
+    @Value("${load-shedding.concurrency.smoothing:0.2}")
+    private double smoothing;
+
+    private LongSupplier clock = System::nanoTime;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder windowLatencyNanos = new LongAdder();
+    private final LongAdder windowSamples = new LongAdder();
+    private final AtomicLong windowEnd = new AtomicLong();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile int limit;
+    private volatile double estimatedLimit;
+    private volatile int windowPeakInFlight;
+    private volatile double baselineLatencyNanos;
+    private volatile double lastLatencyNanos;
+
+    @PostConstruct
+    void init() {
+        estimatedLimit = initialLimit;
+        limit = initialLimit;
+        windowEnd.set(clock.getAsLong() + TimeUnit.MILLISECONDS.toNanos(windowMillis));
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                if (current + 1 > windowPeakInFlight) {
+                    windowPeakInFlight = current + 1;
+                }
+                accepted.increment();
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        windowLatencyNanos.add(latencyNanos);
+        windowSamples.increment();
+
+        long now = clock.getAsLong();
+        long end = windowEnd.get();
+        if (now >= end && windowEnd.compareAndSet(end, now + TimeUnit.MILLISECONDS.toNanos(windowMillis))) {
+            closeWindow();
+        }
+    }
+
+    private void closeWindow() {
+        long samples = windowSamples.sum();
+        if (samples < minWindowSamples) {
+            return;
+        }
+        long total = windowLatencyNanos.sumThenReset();
+        windowSamples.add(-samples);
+        int peak = windowPeakInFlight;
+        windowPeakInFlight = inFlight.get();
+
+        double shortLatency = (double) total / samples;
+        double baseline = baselineLatencyNanos == 0
+            ? shortLatency
+            : baselineLatencyNanos + (shortLatency - baselineLatencyNanos) / baselineWindows;
+        // Let the baseline recover quickly after a sustained slowdown instead of anchoring to it.
+        if (baseline > shortLatency * 2) {
+            baseline = shortLatency * 2;
+        }
+        baselineLatencyNanos = baseline;
+        lastLatencyNanos = shortLatency;
+
+        double current = estimatedLimit;
+        double gradient = Math.max(0.5, Math.min(1.0, baseline / shortLatency));
+        double target = current * gradient + queueSize;
+        // Growth is only justified when the current limit was actually being used.
+        if (target > current && peak < current / 2) {
+            return;
+        }
+        double next = current * (1 - smoothing) + target * smoothing;
+        next = Math.max(minLimit, Math.min(maxLimit, next));
+        estimatedLimit = next;
+        limit = (int) next;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getBaselineLatencyMicros() {
+        return (long) (baselineLatencyNanos / 1_000);
+    }
+
+    public long getLastLatencyMicros() {
+        return (long) (lastLatencyNanos / 1_000);
+    }
+}
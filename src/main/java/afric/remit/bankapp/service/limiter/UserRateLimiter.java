@@ -0,0 +1,93 @@
+package afric.remit.bankapp.service.limiter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import javax.annotation.PostConstruct;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-caller token bucket in its GCRA form: each bucket is one AtomicLong holding the time at
+ * which it will be full again, advanced with a CAS, so a check never blocks or allocates once
+ * the caller has been seen. Buckets that are full are indistinguishable from new ones and are
+ * dropped by the idle sweep.
+ */
+@Component
+public class UserRateLimiter {
+
+    @Value("${load-shedding.rate.per-second:20}")
+    private double permitsPerSecond;
+
+    @Value("${load-shedding.rate.burst:40}")
+    private int burst;
+
+    private LongSupplier clock = System::nanoTime;
+
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+
+    private long intervalNanos;
+    private long toleranceNanos;
+
+    @PostConstruct
+    void init() {
+        intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        toleranceNanos = intervalNanos * burst;
+    }
+
+    public boolean tryAcquire(String caller) {
+        AtomicLong fullAt = buckets.get(caller);
+        if (fullAt == null) {
+            fullAt = buckets.computeIfAbsent(caller, c -> new AtomicLong(Long.MIN_VALUE));
+        }
+        long now = clock.getAsLong();
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            if (next - now > toleranceNanos) {
+                rejected.increment();
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    // Seconds until the caller's next permit, for Retry-After.
+    public long retryAfterSeconds(String caller) {
+        AtomicLong fullAt = buckets.get(caller);
+        if (fullAt == null) {
+            return 0;
+        }
+        long wait = fullAt.get() - toleranceNanos + intervalNanos - clock.getAsLong();
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    @Scheduled(fixedDelayString = "${load-shedding.rate.idle-sweep-interval-ms:60000}")
+    public void evictIdle() {
+        long now = clock.getAsLong();
+        buckets.values().removeIf(fullAt -> fullAt.get() <= now);
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public int getTrackedCallers() {
+        return buckets.size();
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+}
@@ -0,0 +1,14 @@
+package afric.remit.bankapp.service.outbox;
+
+import afric.remit.bankapp.dto.LedgerEvent;
+import java.util.List;
+
+/**
+ * Destination the outbox relay publishes to. Events arrive in outbox order, which is per-account
+ * posting order. A batch either completes or throws; after a throw the whole batch is offered
+ * again, so implementations must tolerate redelivery (consumers dedupe on eventId).
+ */
+public interface LedgerEventSink {
+
+    void deliver(List<LedgerEvent> events);
+}
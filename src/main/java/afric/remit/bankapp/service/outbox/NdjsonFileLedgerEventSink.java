@@ -0,0 +1,47 @@
+package afric.remit.bankapp.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import afric.remit.bankapp.dto.LedgerEvent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Local stand-in for a message broker: appends one JSON document per event to a file.
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "ndjson", matchIfMissing = true)
+public class NdjsonFileLedgerEventSink implements LedgerEventSink {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final Path path;
+
+    public NdjsonFileLedgerEventSink(@Value("${outbox.ndjson.path:ledger-events.ndjson}") String path) {
+        this.path = Paths.get(path);
+    }
+
+    @Override
+    public synchronized void deliver(List<LedgerEvent> events) {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (LedgerEvent event : events) {
+                writer.write(mapper.writeValueAsString(event));
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write ledger events to " + path, e);
+        }
+    }
+}
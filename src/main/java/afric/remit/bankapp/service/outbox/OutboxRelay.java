@@ -0,0 +1,176 @@
+package afric.remit.bankapp.service.outbox;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import afric.remit.bankapp.dto.LedgerEvent;
+import afric.remit.bankapp.dto.OutboxStats;
+import afric.remit.bankapp.model.LedgerOutboxEvent;
+import afric.remit.bankapp.repository.LedgerOutboxRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Publishes ledger outbox rows to the configured {@link LedgerEventSink}.
+ * Each batch is claimed in id order in a short locking transaction that leases it for
+ * {@code outbox.lease-ms}, delivered with no transaction or lock held, and stamped dispatched in a
+ * second short transaction, so postings never wait on the sink's I/O. While the head of the queue
+ * is leased, other relays claim nothing, which keeps per-account order across instances.
+ * A sink failure releases the lease so the same batch is retried on the next poll (at-least-once);
+ * a relay that dies mid-batch leaves it to be claimed again once the lease runs out.
+ *
+ * Ids are handed out at insert, not at commit, and hot-account credits and accrual or import
+ * batches do not lock the account row, so a higher id can commit before a lower one for the same
+ * account. A batch therefore ends at the first missing id: that id may belong to a transaction still
+ * in flight. A gap that stays open for {@code outbox.gap-grace-ms} is taken to be a rolled-back
+ * insert and is passed over; a row that commits later than that is delivered as soon as it appears.
+ * The purge keeps the last dispatched row for the same reason: without a row below the head there
+ * is nothing to measure a gap from.
+ */
+@Service
+public class OutboxRelay {
+
+    @Autowired
+    private LedgerOutboxRepository outboxRepository;
+
+    @Autowired
+    private LedgerEventSink sink;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${outbox.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${outbox.max-batches-per-poll:20}")
+    private int maxBatchesPerPoll;
+
+    @Value("${outbox.retention-hours:24}")
+    private long retentionHours;
+
+    @Value("${outbox.lease-ms:60000}")
+    private long leaseMillis;
+
+    @Value("${outbox.gap-grace-ms:5000}")
+    private long gapGraceMillis = 5000;
+
+    private LongSupplier clock = System::currentTimeMillis;
+
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder deliveryNanos = new LongAdder();
+    private volatile String lastError;
+    // The first id of the gap the head is waiting on, and when this relay first saw it open.
+    private long openGapId;
+    private long openGapSince;
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:500}")
+    public void poll() {
+        try {
+            for (int i = 0; i < maxBatchesPerPoll; i++) {
+                if (relayBatch() < batchSize) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            failures.increment();
+            lastError = e.getMessage();
+        }
+    }
+
+    public int relayBatch() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<LedgerEvent> events = tx.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<LedgerOutboxEvent> pending = outboxRepository.findUndispatched(PageRequest.of(0, batchSize));
+            if (pending.isEmpty() || isLeased(pending.get(0), now)) {
+                return Collections.<LedgerEvent>emptyList();
+            }
+            List<LedgerEvent> claimed = new ArrayList<>(pending.size());
+            Long preceding = outboxRepository.findPrecedingId(pending.get(0).getId());
+            long expected = preceding == null ? pending.get(0).getId() : preceding + 1;
+            for (LedgerOutboxEvent row : pending) {
+                if (row.getId() > expected && !gapExpired(expected)) {
+                    break;
+                }
+                expected = Math.max(expected, row.getId() + 1);
+                claimed.add(new LedgerEvent(row.getId(), row.getJournalId(), row.getAccountId(), row.getAmount(),
+                    row.getType(), row.getOccurredAt()));
+            }
+            if (claimed.isEmpty()) {
+                return claimed;
+            }
+            outboxRepository.claim(ids(claimed), now.plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseMillis)));
+            return claimed;
+        });
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = ids(events);
+        long start = System.nanoTime();
+        try {
+            sink.deliver(events);
+        } catch (RuntimeException e) {
+            tx.executeWithoutResult(status -> outboxRepository.claim(ids, null));
+            throw e;
+        }
+        deliveryNanos.add(System.nanoTime() - start);
+        tx.executeWithoutResult(status -> outboxRepository.markDispatched(ids, LocalDateTime.now()));
+        delivered.add(events.size());
+        batches.increment();
+        return events.size();
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.purge-interval-ms:3600000}",
+        initialDelayString = "${outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Long lastDispatched = outboxRepository.findLastDispatchedId();
+            if (lastDispatched != null) {
+                outboxRepository.deleteDispatchedBefore(LocalDateTime.now().minusHours(retentionHours), lastDispatched);
+            }
+        });
+    }
+
+    private synchronized boolean gapExpired(long gapId) {
+        long now = clock.getAsLong();
+        if (openGapId != gapId) {
+            openGapId = gapId;
+            openGapSince = now;
+        }
+        return now - openGapSince >= gapGraceMillis;
+    }
+
+    private static boolean isLeased(LedgerOutboxEvent row, LocalDateTime now) {
+        return row.getClaimedUntil() != null && row.getClaimedUntil().isAfter(now);
+    }
+
+    private static List<Long> ids(List<LedgerEvent> events) {
+        List<Long> ids = new ArrayList<>(events.size());
+        for (LedgerEvent event : events) {
+            ids.add(event.getEventId());
+        }
+        return ids;
+    }
+
+    public OutboxStats stats() {
+        LocalDateTime oldest = outboxRepository.findOldestUndispatched();
+        long lagMillis = oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis());
+        long nanos = deliveryNanos.sum();
+        double eventsPerSecond = nanos == 0 ? 0 : delivered.sum() * 1_000_000_000d / nanos;
+        return new OutboxStats(delivered.sum(), batches.sum(), failures.sum(), outboxRepository.countUndispatched(),
+            lagMillis, eventsPerSecond, lastError);
+    }
+}
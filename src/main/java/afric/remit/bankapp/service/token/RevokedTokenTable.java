@@ -0,0 +1,116 @@
+package afric.remit.bankapp.service.token;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * Open-addressing set of revoked token ids, each a UUID held as its two 64-bit halves next to
+ * the token's expiry in epoch millis. Probing is linear over primitive arrays kept at most half
+ * full, so a lookup is a few array reads: no hashing of strings, boxing or allocation.
+ *
+ * One writer at a time adds entries; readers need no lock. An entry's id halves are written
+ * before its expiry, and the expiry is the volatile write that publishes it, so a reader that
+ * sees a non-zero expiry also sees the id. Entries are never removed in place: expired ones stop
+ * matching and are dropped when the owner rebuilds the table with {@link #compact}.
+ */
+final class RevokedTokenTable {
+
+    private final long[] high;
+    private final long[] low;
+    // 0 marks an empty slot.
+    private final AtomicLongArray expiresAt;
+    private final int mask;
+    private int size;
+
+    RevokedTokenTable(int minCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(16, minCapacity) - 1) << 1;
+        high = new long[capacity];
+        low = new long[capacity];
+        expiresAt = new AtomicLongArray(capacity);
+        mask = capacity - 1;
+    }
+
+    boolean contains(long idHigh, long idLow, long now) {
+        int slot = slot(idHigh, idLow);
+        while (true) {
+            long expiry = expiresAt.get(slot);
+            if (expiry == 0) {
+                return false;
+            }
+            if (high[slot] == idHigh && low[slot] == idLow) {
+                return expiry > now;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    // Single writer only. False when the table is at its load limit and must be rebuilt first.
+    boolean add(long idHigh, long idLow, long expiry) {
+        int slot = slot(idHigh, idLow);
+        while (true) {
+            long current = expiresAt.get(slot);
+            if (current == 0) {
+                if (size >= capacity() / 2) {
+                    return false;
+                }
+                high[slot] = idHigh;
+                low[slot] = idLow;
+                expiresAt.set(slot, expiry);
+                size++;
+                return true;
+            }
+            if (high[slot] == idHigh && low[slot] == idLow) {
+                expiresAt.set(slot, Math.max(current, expiry));
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    // A new table holding only the entries still live at now, with room for at least minCapacity.
+    RevokedTokenTable compact(long now, int minCapacity) {
+        RevokedTokenTable compacted = new RevokedTokenTable(Math.max(minCapacity, (live(now) + 1) * 4));
+        for (int slot = 0; slot < high.length; slot++) {
+            long expiry = expiresAt.get(slot);
+            if (expiry > now) {
+                compacted.add(high[slot], low[slot], expiry);
+            }
+        }
+        return compacted;
+    }
+
+    int live(long now) {
+        int live = 0;
+        for (int slot = 0; slot < high.length; slot++) {
+            if (expiresAt.get(slot) > now) {
+                live++;
+            }
+        }
+        return live;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return high.length;
+    }
+
+    long high(int slot) {
+        return high[slot];
+    }
+
+    long low(int slot) {
+        return low[slot];
+    }
+
+    long expiresAt(int slot) {
+        return expiresAt.get(slot);
+    }
+
+    private int slot(long idHigh, long idLow) {
+        long hash = (idHigh ^ idLow) * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & mask;
+    }
+}
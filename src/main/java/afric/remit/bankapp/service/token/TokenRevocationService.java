@@ -0,0 +1,225 @@
+package afric.remit.bankapp.service.token;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import afric.remit.bankapp.dto.TokenRevocationStats;
+import afric.remit.bankapp.util.JwtUtil;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import javax.annotation.PostConstruct;
+
+
+/**
+ * Deny-list of revoked token ids (the {@code jti} claim), checked on every token validation
+ * without touching the database. Ids are UUIDs read straight from the claim's characters into
+ * two longs and probed in a {@link RevokedTokenTable}, so a check does not allocate.
+ * An entry lives until the expiry of the token it revokes; after that the token is rejected
+ * as expired anyway, and the sweep drops the entry.
+ *
+ * Revocations are appended to a file of fixed 24-byte records (id high, id low, expiry millis),
+ * reloaded at startup and rewritten without expired records by the sweep. A revocation still
+ * takes effect in memory if the append fails.
+ *
+ * At most {@code tokens.max-entries} ids are held; once that many are live, new revocations
+ * are refused until some expire.
+ */
+@Service
+public class TokenRevocationService {
+
+    static final int RECORD_BYTES = 24;
+    private static final int UUID_LENGTH = 36;
+
+    @Value("${tokens.revocation-file:revoked-tokens.bin}")
+    private String revocationFile = "revoked-tokens.bin";
+
+    @Value("${tokens.initial-capacity:1024}")
+    private int initialCapacity = 1024;
+
+    @Value("${tokens.max-entries:1000000}")
+    private int maxEntries = 1000000;
+
+    private LongSupplier clock = System::currentTimeMillis;
+
+    private volatile RevokedTokenTable table = new RevokedTokenTable(16);
+    private final AtomicLong persistFailures = new AtomicLong();
+    private volatile String lastError;
+
+    // A file that exists but cannot be read stops startup: starting empty would quietly
+    // reinstate every revoked token.
+    @PostConstruct
+    public synchronized void load() {
+        long now = clock.getAsLong();
+        RevokedTokenTable loaded = new RevokedTokenTable(initialCapacity);
+        Path path = Paths.get(revocationFile);
+        if (Files.exists(path)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+                // Whole records only: a partial one at the end is an append cut short by a crash.
+                long records = Files.size(path) / RECORD_BYTES;
+                for (long i = 0; i < records; i++) {
+                    long high = in.readLong();
+                    long low = in.readLong();
+                    long expiresAt = in.readLong();
+                    if (expiresAt > now) {
+                        loaded = add(loaded, high, low, expiresAt, now);
+                    }
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot read revoked tokens from " + path, e);
+            }
+            truncateToWholeRecords(path);
+        }
+        table = loaded;
+    }
+
+    public boolean isRevoked(CharSequence tokenId) {
+        if (!isUuid(tokenId)) {
+            return false;
+        }
+        return table.contains(half(tokenId, 0), half(tokenId, 19), clock.getAsLong());
+    }
+
+    // For tokens whose expiry is not known, such as an id taken from an audit log.
+    public void revoke(String tokenId) {
+        revoke(tokenId, clock.getAsLong() + JwtUtil.TOKEN_VALIDITY_MS);
+    }
+
+    public synchronized void revoke(String tokenId, long expiresAt) {
+        if (!isUuid(tokenId)) {
+            throw new RuntimeException("Invalid token id");
+        }
+        long now = clock.getAsLong();
+        if (expiresAt <= now) {
+            return;
+        }
+        long high = half(tokenId, 0);
+        long low = half(tokenId, 19);
+        if (table.size() >= maxEntries && !table.contains(high, low, now)) {
+            // Expired entries still count towards size() until a sweep drops them.
+            sweep();
+            if (table.size() >= maxEntries) {
+                throw new RuntimeException("Revocation list is full");
+            }
+        }
+        table = add(table, high, low, expiresAt, now);
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(Paths.get(revocationFile),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+            out.writeLong(high);
+            out.writeLong(low);
+            out.writeLong(expiresAt);
+        } catch (IOException e) {
+            persistFailures.incrementAndGet();
+            lastError = revocationFile + ": " + e.getMessage();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tokens.sweep-interval-ms:600000}", initialDelayString = "${tokens.sweep-interval-ms:600000}")
+    public synchronized void sweep() {
+        long now = clock.getAsLong();
+        RevokedTokenTable current = table;
+        if (current.live(now) == current.size()) {
+            return;
+        }
+        RevokedTokenTable compacted = current.compact(now, initialCapacity);
+        table = compacted;
+        try {
+            rewrite(compacted);
+            lastError = null;
+        } catch (UncheckedIOException e) {
+            persistFailures.incrementAndGet();
+            lastError = revocationFile + ": " + e.getCause().getMessage();
+        }
+    }
+
+    public TokenRevocationStats stats() {
+        RevokedTokenTable snapshot = table;
+        return new TokenRevocationStats(snapshot.live(clock.getAsLong()), snapshot.capacity(),
+            persistFailures.get(), lastError);
+    }
+
+    // Grows the table when it is at its load limit; readers switch over on the volatile write of the result.
+    private static RevokedTokenTable add(RevokedTokenTable target, long high, long low, long expiresAt, long now) {
+        if (target.add(high, low, expiresAt)) {
+            return target;
+        }
+        RevokedTokenTable grown = target.compact(now, target.capacity() * 2);
+        grown.add(high, low, expiresAt);
+        return grown;
+    }
+
+    // Drops a partial trailing record, which would otherwise shift every later append off the record boundary.
+    private static void truncateToWholeRecords(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            long whole = channel.size() / RECORD_BYTES * RECORD_BYTES;
+            if (channel.size() != whole) {
+                channel.truncate(whole);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot repair revoked tokens file " + path, e);
+        }
+    }
+
+    // Written beside the live file and moved over it, so a crash leaves one complete file or the other.
+    private void rewrite(RevokedTokenTable snapshot) {
+        Path path = Paths.get(revocationFile);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                for (int slot = 0; slot < snapshot.capacity(); slot++) {
+                    if (snapshot.expiresAt(slot) != 0) {
+                        out.writeLong(snapshot.high(slot));
+                        out.writeLong(snapshot.low(slot));
+                        out.writeLong(snapshot.expiresAt(slot));
+                    }
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Canonical 8-4-4-4-12 hex form, as issued by JwtUtil.
+    static boolean isUuid(CharSequence id) {
+        if (id == null || id.length() != UUID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            char c = id.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 16 hex digits starting at from, skipping dashes: from 0 gives the high half, from 19 the low half.
+    static long half(CharSequence id, int from) {
+        long value = 0;
+        int digits = 0;
+        for (int i = from; digits < 16; i++) {
+            char c = id.charAt(i);
+            if (c != '-') {
+                value = (value << 4) | Character.digit(c, 16);
+                digits++;
+            }
+        }
+        return value;
+    }
+}
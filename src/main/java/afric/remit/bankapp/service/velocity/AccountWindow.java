@@ -0,0 +1,100 @@
+package afric.remit.bankapp.service.velocity;
+
+import java.util.Arrays;
+
+
+/**
+ * Debit counts and amounts of one account in a ring of time buckets, plus a running total per
+ * rule over that rule's window. Moving to a later bucket subtracts the buckets that left each
+ * window, so a check compares a few longs instead of summing the ring. Callers synchronize on
+ * the window.
+ *
+ * Everything lives in one array, rule totals first and then a count and amount per bucket, so
+ * a check touches a couple of adjacent cache lines rather than one per field.
+ */
+final class AccountWindow {
+
+    private final VelocityRule[] rules;
+    private final long[] data;
+    private final int ringStart;
+    private final int ringSize;
+    private final int mask;
+    private long head;
+    // Set under the window's lock when it is dropped from the map; a holder must look it up again.
+    boolean evicted;
+
+    AccountWindow(VelocityRule[] rules, int ringSize, long bucket) {
+        this.rules = rules;
+        this.ringSize = ringSize;
+        ringStart = rules.length * 2;
+        data = new long[ringStart + ringSize * 2];
+        mask = ringSize - 1;
+        head = bucket;
+    }
+
+    // Index of the first rule the debit would break, or -1 once it has been recorded.
+    int tryRecord(long bucket, long amount) {
+        advance(bucket);
+        for (int r = 0; r < rules.length; r++) {
+            if (rules[r].exceededBy(data[2 * r] + 1, data[2 * r + 1] + amount)) {
+                return r;
+            }
+        }
+        add(bucket, 1, amount);
+        return -1;
+    }
+
+    // Adds to an earlier bucket too, as long as it is still inside the ring; negative values undo a debit.
+    void add(long bucket, long count, long amount) {
+        advance(bucket);
+        long age = head - bucket;
+        if (age >= ringSize) {
+            return;
+        }
+        int slot = slot(bucket);
+        data[slot] += count;
+        data[slot + 1] += amount;
+        for (int r = 0; r < rules.length; r++) {
+            if (age < rules[r].getWindowBuckets()) {
+                data[2 * r] += count;
+                data[2 * r + 1] += amount;
+            }
+        }
+    }
+
+    // True once every bucket held has left every window, so the window equals a fresh one.
+    boolean isIdle(long bucket) {
+        return bucket - head >= ringSize;
+    }
+
+    private void advance(long bucket) {
+        if (bucket <= head) {
+            return;
+        }
+        if (bucket - head >= ringSize) {
+            Arrays.fill(data, 0);
+            head = bucket;
+            return;
+        }
+        // Buckets after head were never written, so only those up to head can leave a window.
+        for (int r = 0; r < rules.length; r++) {
+            int window = rules[r].getWindowBuckets();
+            long leaving = Math.min(head, bucket - window);
+            for (long k = head - window + 1; k <= leaving; k++) {
+                int slot = slot(k);
+                data[2 * r] -= data[slot];
+                data[2 * r + 1] -= data[slot + 1];
+            }
+        }
+        for (long k = head + 1; k <= bucket; k++) {
+            int slot = slot(k);
+            data[slot] = 0;
+            data[slot + 1] = 0;
+        }
+        head = bucket;
+    }
+
+    private int slot(long bucket) {
+        return ringStart + (int) (bucket & mask) * 2;
+    }
+}
@@ -0,0 +1,73 @@
+package afric.remit.bankapp.service.velocity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+
+/**
+ * One per-account debit limit over a sliding window, parsed from
+ * {@code name:window-seconds:max-debits:max-amount}. A limit of 0 is not checked.
+ * The amount is in minor units of the base currency.
+ */
+public final class VelocityRule {
+
+    private final String name;
+    private final long windowSeconds;
+    private final int windowBuckets;
+    private final long maxDebits;
+    private final long maxAmount;
+
+    VelocityRule(String name, long windowSeconds, int windowBuckets, long maxDebits, long maxAmount) {
+        this.name = name;
+        this.windowSeconds = windowSeconds;
+        this.windowBuckets = windowBuckets;
+        this.maxDebits = maxDebits;
+        this.maxAmount = maxAmount;
+    }
+
+    static VelocityRule parse(String spec, long bucketMillis) {
+        String[] fields = spec.trim().split(":");
+        if (fields.length != 4 || fields[0].isEmpty()) {
+            throw new IllegalArgumentException("Velocity rule '" + spec + "' is not name:window-seconds:max-debits:max-amount");
+        }
+        try {
+            long windowSeconds = Long.parseLong(fields[1].trim());
+            long maxDebits = Long.parseLong(fields[2].trim());
+            long maxAmount = new BigDecimal(fields[3].trim()).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+            if (windowSeconds <= 0 || maxDebits < 0 || maxAmount < 0) {
+                throw new IllegalArgumentException("Velocity rule '" + spec + "' has a negative or empty limit");
+            }
+            long windowBuckets = (windowSeconds * 1000 + bucketMillis - 1) / bucketMillis;
+            if (windowBuckets > 1 << 20) {
+                throw new IllegalArgumentException("Velocity rule '" + spec + "' spans too many buckets");
+            }
+            return new VelocityRule(fields[0].trim(), windowSeconds, (int) windowBuckets, maxDebits, maxAmount);
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new IllegalArgumentException("Velocity rule '" + spec + "' has an invalid number");
+        }
+    }
+
+    boolean exceededBy(long debits, long amount) {
+        return (maxDebits > 0 && debits > maxDebits) || (maxAmount > 0 && amount > maxAmount);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getWindowSeconds() {
+        return windowSeconds;
+    }
+
+    int getWindowBuckets() {
+        return windowBuckets;
+    }
+
+    public long getMaxDebits() {
+        return maxDebits;
+    }
+
+    public BigDecimal getMaxAmount() {
+        return BigDecimal.valueOf(maxAmount, 2);
+    }
+}
@@ -0,0 +1,182 @@
+package afric.remit.bankapp.service.velocity;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import afric.remit.bankapp.dto.VelocityStats;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.repository.AccountingJournalRepository;
+import afric.remit.bankapp.repository.projection.RecentDebitView;
+import afric.remit.bankapp.service.fx.FxRateService;
+import afric.remit.bankapp.service.fx.FxRateTable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import javax.annotation.PostConstruct;
+
+
+/**
+ * Per-account debit velocity limits ({@code velocity.rules}), checked in memory on the debit path
+ * instead of aggregating the journal. Each account has an {@link AccountWindow} of
+ * {@code velocity.bucket-ms} buckets in a {@link ConcurrentHashMap}, whose per-bin locking keeps
+ * accounts from contending with each other; a check locks only its own account's window.
+ * Windows slide a whole bucket at a time, so a debit can stop counting up to one bucket
+ * before its window has fully passed.
+ *
+ * Windows are rebuilt from the journal's recent debits at startup. Accounts without a debit in
+ * any window are evicted by the idle sweep and start from a fresh window on their next debit.
+ */
+@Service
+public class VelocityService {
+
+    public static final long NOT_RECORDED = Long.MIN_VALUE;
+
+    @Autowired
+    private AccountingJournalRepository journalRepository;
+
+    @Autowired
+    private FxRateService fxRateService;
+
+    // name:window-seconds:max-debits:max-amount, comma separated.
+    @Value("${velocity.rules:}")
+    private String ruleSpecs = "";
+
+    @Value("${velocity.bucket-ms:10000}")
+    private long bucketMillis = 10000;
+
+    private LongSupplier clock = System::currentTimeMillis;
+
+    private final ConcurrentHashMap<String, AccountWindow> windows = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+    private VelocityRule[] rules = new VelocityRule[0];
+    private int ringSize;
+    private long rebuiltDebits;
+
+    @PostConstruct
+    public void init() {
+        List<VelocityRule> parsed = new ArrayList<>();
+        for (String spec : ruleSpecs.split(",")) {
+            if (!spec.isBlank()) {
+                parsed.add(VelocityRule.parse(spec, bucketMillis));
+            }
+        }
+        rules = parsed.toArray(new VelocityRule[0]);
+        if (rules.length == 0) {
+            return;
+        }
+        int widest = 1;
+        for (VelocityRule rule : rules) {
+            widest = Math.max(widest, rule.getWindowBuckets());
+        }
+        ringSize = widest == 1 ? 1 : Integer.highestOneBit(widest - 1) << 1;
+        rebuild();
+    }
+
+    // Counts the debit against every rule and returns its bucket for release(); throws if a rule would be broken.
+    public long record(Account account, BigDecimal amount) {
+        if (rules.length == 0) {
+            return NOT_RECORDED;
+        }
+        long bucket = clock.getAsLong() / bucketMillis;
+        long baseAmount = toBaseMinor(amount, account.getCurrency());
+        while (true) {
+            AccountWindow window = window(account.getAccountNumber(), bucket);
+            int broken;
+            synchronized (window) {
+                if (window.evicted) {
+                    continue;
+                }
+                broken = window.tryRecord(bucket, baseAmount);
+            }
+            if (broken >= 0) {
+                rejected.increment();
+                throw new RuntimeException("Velocity limit exceeded: " + rules[broken].getName());
+            }
+            return bucket;
+        }
+    }
+
+    // Takes back a recorded debit that did not go through.
+    public void release(Account account, long bucket, BigDecimal amount) {
+        if (bucket == NOT_RECORDED) {
+            return;
+        }
+        long baseAmount = toBaseMinor(amount, account.getCurrency());
+        AccountWindow window = windows.get(account.getAccountNumber());
+        if (window != null) {
+            synchronized (window) {
+                if (!window.evicted) {
+                    window.add(bucket, -1, -baseAmount);
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${velocity.idle-sweep-interval-ms:60000}")
+    public void evictIdle() {
+        long bucket = clock.getAsLong() / bucketMillis;
+        windows.forEach((accountNumber, window) -> {
+            synchronized (window) {
+                if (window.isIdle(bucket)) {
+                    window.evicted = true;
+                    windows.remove(accountNumber, window);
+                }
+            }
+        });
+    }
+
+    public VelocityStats stats() {
+        List<String> descriptions = new ArrayList<>();
+        for (VelocityRule rule : rules) {
+            descriptions.add(rule.getName() + ": " + rule.getMaxDebits() + " debits / " + rule.getMaxAmount()
+                + " " + fxRateService.getBaseCurrency() + " per " + rule.getWindowSeconds() + "s");
+        }
+        return new VelocityStats(descriptions, bucketMillis, windows.size(), rejected.sum(), rebuiltDebits);
+    }
+
+    private void rebuild() {
+        windows.clear();
+        rebuiltDebits = 0;
+        long now = clock.getAsLong();
+        long since = (now / bucketMillis - ringSize + 1) * bucketMillis;
+        ZoneId zone = ZoneId.systemDefault();
+        for (RecentDebitView debit : journalRepository.findDebitsSince(
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(since), zone))) {
+            long bucket = debit.getTransactionDate().atZone(zone).toInstant().toEpochMilli() / bucketMillis;
+            AccountWindow window = window(debit.getAccountNumber(), bucket);
+            synchronized (window) {
+                window.add(bucket, 1, toBaseMinor(debit.getAmount(), debit.getCurrency()));
+            }
+            rebuiltDebits++;
+        }
+    }
+
+    private AccountWindow window(String accountNumber, long bucket) {
+        AccountWindow window = windows.get(accountNumber);
+        if (window == null) {
+            window = windows.computeIfAbsent(accountNumber, n -> new AccountWindow(rules, ringSize, bucket));
+        }
+        return window;
+    }
+
+    // Amount limits are in the base currency; the double rate is precise enough for a threshold.
+    private long toBaseMinor(BigDecimal amount, String currency) {
+        double value = amount.doubleValue();
+        if (currency != null && !currency.equals(fxRateService.getBaseCurrency())) {
+            FxRateTable table = fxRateService.current();
+            int from = table.indexOf(currency);
+            int to = table.indexOf(table.getBaseCurrency());
+            if (from >= 0 && to >= 0) {
+                value *= table.rate(from, to);
+            }
+        }
+        return Math.round(value * 100);
+    }
+}
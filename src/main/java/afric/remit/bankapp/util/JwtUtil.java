@@ -3,25 +3,36 @@ package afric.remit.bankapp.util;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
-import afric.remit.bankapp.model.User;
+import afric.remit.bankapp.service.token.TokenRevocationService;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 
 @Component
 public class JwtUtil {
+    public static final long TOKEN_VALIDITY_MS = 1000 * 60 * 60 * 10;
+
      private String SECRET_KEY = "secret";
 
+    @Autowired
+    private TokenRevocationService revocationService;
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
+    public String extractTokenId(String token) {
+        return extractClaim(token, Claims::getId);
+    }
+
     public Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
@@ -39,20 +50,23 @@ public class JwtUtil {
         return extractExpiration(token).before(new Date());
     }
 
+    // The principal is whatever the authentication manager produced, so only its name is relied on.
     public String generateToken(Authentication authentication) {
-        User user = (User) authentication.getPrincipal();
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, user.getUsername());
+        return createToken(claims, authentication.getName());
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
-        return Jwts.builder().setClaims(claims).setSubject(subject).setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
+        return Jwts.builder().setClaims(claims).setSubject(subject).setId(UUID.randomUUID().toString())
+                .setIssuedAt(new Date(System.currentTimeMillis()))
+                .setExpiration(new Date(System.currentTimeMillis() + TOKEN_VALIDITY_MS))
                 .signWith(SignatureAlgorithm.HS256, SECRET_KEY).compact();
     }
 
-    public Boolean validateToken(String token, User userDetails) {
+    // Checked by JwtAuthenticationFilter on every request that presents a bearer token.
+    public Boolean validateToken(String token, UserDetails userDetails) {
         final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token)
+                && !revocationService.isRevoked(extractTokenId(token)));
     }
 }
\ No newline at end of file
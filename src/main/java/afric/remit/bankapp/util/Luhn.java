@@ -0,0 +1,41 @@
+package afric.remit.bankapp.util;
+
+// Mod-10 check digit, as used on card and account numbers; catches every single-digit error and most transpositions.
+public final class Luhn {
+
+    private Luhn() {
+    }
+
+    public static int checkDigit(CharSequence digits) {
+        int sum = 0;
+        boolean doubled = true;
+        for (int i = digits.length() - 1; i >= 0; i--) {
+            int digit = digits.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Not a digit string: " + digits);
+            }
+            if (doubled) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+            doubled = !doubled;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    public static boolean isValid(CharSequence number) {
+        if (number == null || number.length() < 2) {
+            return false;
+        }
+        for (int i = 0; i < number.length(); i++) {
+            if (!Character.isDigit(number.charAt(i))) {
+                return false;
+            }
+        }
+        int last = number.charAt(number.length() - 1) - '0';
+        return checkDigit(number.subSequence(0, number.length() - 1)) == last;
+    }
+}
@@ -0,0 +1,47 @@
+package afric.remit.bankapp;
+
+import afric.remit.bankapp.dto.StartupReport;
+import afric.remit.bankapp.dto.StartupTiming;
+import afric.remit.bankapp.service.StartupReportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StartupProfileTest {
+
+    // Runs the real application against an in-memory database; shared with StartupTimeBenchmark.
+    public static ConfigurableApplicationContext start(String profile, String database) {
+        return BankappApplication.createApplication().run(
+            "--spring.profiles.active=" + profile,
+            "--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.show-sql=false",
+            "--server.port=0",
+            "--outbox.poll-interval-ms=3600000",
+            "--hot-accounts.sweep-interval-ms=3600000");
+    }
+
+    @Test
+    void fastStart_ShouldDeferRequestPathBeansAndReportStartupPhases() {
+        // Act
+        try (ConfigurableApplicationContext context = start("fast-start", "startup-profile")) {
+            StartupReport report = context.getBean(StartupReportService.class).report();
+
+            // Assert
+            assertThat(context.getBeanFactory().containsSingleton("accountOverviewService")).isFalse();
+            assertThat(context.getBeanFactory().containsSingleton("outboxRelay")).isTrue();
+            assertThat(report.getActiveProfiles()).containsExactly("fast-start");
+            assertThat(report.getJvmStartToReadyMillis()).isPositive();
+            assertThat(report.getPhases().stream().map(StartupTiming::getName).collect(Collectors.toList()))
+                .contains("spring.context.refresh");
+            assertThat(report.getSlowestBeans()).isNotEmpty();
+            assertThat(report.getBeansInstantiated()).isGreaterThanOrEqualTo(report.getSlowestBeans().size());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package afric.remit.bankapp.benchmark;
+
+import afric.remit.bankapp.dto.ConcurrencyStats;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.User;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.AccountingJournalRepository;
+import afric.remit.bankapp.repository.UserRepository;
+import afric.remit.bankapp.service.concurrency.BalanceUpdateStrategy;
+import afric.remit.bankapp.service.concurrency.ConcurrencyMetrics;
+import afric.remit.bankapp.service.concurrency.OptimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.concurrency.PessimisticBalanceUpdateStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Credit throughput of both strategies as the same writers are squeezed onto fewer accounts.
+ * Optimistic wins while conflicts are rare; the crossover shows up once most writers share a row.
+ * Run with: mvn test -Dtest=ConcurrencyStrategyBenchmark -Dbenchmark=true
+ */
+@DataJpaTest(properties = "concurrency.optimistic.max-attempts=50")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({OptimisticBalanceUpdateStrategy.class, PessimisticBalanceUpdateStrategy.class, ConcurrencyMetrics.class})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ConcurrencyStrategyBenchmark {
+
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 200;
+    private static final int[] ACCOUNT_COUNTS = {256, 64, 16, 4, 1};
+
+    @Autowired
+    private OptimisticBalanceUpdateStrategy optimistic;
+
+    @Autowired
+    private PessimisticBalanceUpdateStrategy pessimistic;
+
+    @Autowired
+    private ConcurrencyMetrics metrics;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountingJournalRepository journalRepository;
+
+    @Test
+    void compareStrategiesAcrossContention() throws Exception {
+        User user = userRepository.save(new User("bench", "password", "bench@example.com"));
+        List<String> warmup = List.of(accountRepository.save(new Account("BENCH-WARMUP", BigDecimal.ZERO, user))
+            .getAccountNumber());
+        run(optimistic, warmup);
+        run(pessimistic, warmup);
+
+        System.out.printf("%-8s %-12s %12s %10s %10s%n", "accounts", "strategy", "ops/sec", "conflicts", "lockWaitMs");
+        for (int accounts : ACCOUNT_COUNTS) {
+            List<String> numbers = new ArrayList<>();
+            for (int i = 0; i < accounts; i++) {
+                String number = "BENCH-" + accounts + "-" + i;
+                accountRepository.save(new Account(number, BigDecimal.ZERO, user));
+                numbers.add(number);
+            }
+            for (BalanceUpdateStrategy strategy : List.of(optimistic, pessimistic)) {
+                metrics.reset();
+                double opsPerSecond = run(strategy, numbers);
+                ConcurrencyStats stats = metrics.snapshot().get(0);
+                System.out.printf("%-8d %-12s %12.0f %10d %10d%n", accounts, strategy.name(), opsPerSecond,
+                    stats.getConflicts(), stats.getLockWaitMillis());
+            }
+        }
+        journalRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private double run(BalanceUpdateStrategy strategy, List<String> numbers) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(pool.submit(() -> {
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    String number = numbers.get(ThreadLocalRandom.current().nextInt(numbers.size()));
+                    strategy.update(number, account -> account.setBalance(account.getBalance().add(BigDecimal.ONE)));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+        return THREADS * OPERATIONS_PER_THREAD / ((System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,162 @@
+package afric.remit.bankapp.benchmark;
+
+import afric.remit.bankapp.service.fx.FxRateService;
+import afric.remit.bankapp.service.fx.FxRateTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Conversion throughput of the primitive-array snapshot against a read-write-locked map of
+ * BigDecimal cross rates, while another thread keeps refreshing the rates.
+ * Run with: mvn test -Dtest=FxConversionBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FxConversionBenchmark {
+
+    private static final int THREADS = 8;
+    private static final long DURATION_MS = 2000;
+    private static final String[] CURRENCIES = {"USD", "EUR", "GBP", "KES", "NGN", "GHS", "ZAR", "UGX", "XOF"};
+    private static final double[] PER_USD = {1, 0.92, 0.79, 129.5, 1545, 15.6, 18.2, 3720, 603.5};
+    private static final BigDecimal AMOUNT = new BigDecimal("125.50");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void conversionThroughput() throws Exception {
+        Path file = tempDir.resolve("rates.csv");
+        writeRates(file, 0);
+        FxRateService service = new FxRateService();
+        ReflectionTestUtils.setField(service, "ratesFile", file.toString());
+        service.init();
+        LockedRateMap locked = new LockedRateMap();
+        locked.load(0);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread refresher = new Thread(() -> {
+            for (int generation = 1; running.get(); generation++) {
+                try {
+                    writeRates(file, generation);
+                    service.refresh();
+                    locked.load(generation);
+                    Thread.sleep(1);
+                } catch (Exception e) {
+                    return;
+                }
+            }
+        });
+        refresher.start();
+        try {
+            IntToDoubleFunction snapshotRate = i -> {
+                FxRateTable table = service.current();
+                return table.rate(table.indexOf(CURRENCIES[i % CURRENCIES.length]),
+                    table.indexOf(CURRENCIES[(i * 7 + 3) % CURRENCIES.length]));
+            };
+            IntToDoubleFunction lockedRate = i -> locked.rate(CURRENCIES[i % CURRENCIES.length],
+                CURRENCIES[(i * 7 + 3) % CURRENCIES.length]).doubleValue();
+            IntToDoubleFunction snapshotConvert = i -> service.current().convert(AMOUNT,
+                CURRENCIES[i % CURRENCIES.length], CURRENCIES[(i * 7 + 3) % CURRENCIES.length]).doubleValue();
+            IntToDoubleFunction lockedConvert = i -> locked.convert(AMOUNT,
+                CURRENCIES[i % CURRENCIES.length], CURRENCIES[(i * 7 + 3) % CURRENCIES.length]).doubleValue();
+
+            run(snapshotRate);
+            run(lockedRate);
+            System.out.printf("%-36s %14.0f ops/sec%n", "rate lookup, array snapshot", run(snapshotRate));
+            System.out.printf("%-36s %14.0f ops/sec%n", "rate lookup, read-write locked map", run(lockedRate));
+            System.out.printf("%-36s %14.0f ops/sec%n", "convert, array snapshot", run(snapshotConvert));
+            System.out.printf("%-36s %14.0f ops/sec%n", "convert, read-write locked map", run(lockedConvert));
+            System.out.printf("%-36s %14d%n", "snapshots published", service.current().getVersion());
+        } finally {
+            running.set(false);
+            refresher.join();
+        }
+    }
+
+    private static double run(IntToDoubleFunction operation) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MS);
+        long start = System.nanoTime();
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(pool.submit(() -> {
+                long operations = 0;
+                double sink = 0;
+                while (System.nanoTime() < deadline) {
+                    for (int i = 0; i < 1000; i++) {
+                        sink += operation.applyAsDouble(i);
+                    }
+                    operations += 1000;
+                }
+                // Returning the sum keeps the JIT from discarding the lookups.
+                return new long[] {operations, Double.doubleToLongBits(sink)};
+            }));
+        }
+        long operations = 0;
+        for (Future<long[]> future : futures) {
+            operations += future.get()[0];
+        }
+        pool.shutdown();
+        return operations / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private static void writeRates(Path file, int generation) throws Exception {
+        StringBuilder rates = new StringBuilder();
+        for (int i = 1; i < CURRENCIES.length; i++) {
+            rates.append(CURRENCIES[i]).append(',').append(PER_USD[i] * (1 + generation % 10 / 1000.0)).append('\n');
+        }
+        Files.writeString(file, rates);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1_700_000_000_000L + generation));
+    }
+
+    // The conventional alternative: cross rates keyed by currency pair behind a read-write lock.
+    private static class LockedRateMap {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, BigDecimal> rates = new HashMap<>();
+
+        void load(int generation) {
+            lock.writeLock().lock();
+            try {
+                for (int from = 0; from < CURRENCIES.length; from++) {
+                    for (int to = 0; to < CURRENCIES.length; to++) {
+                        double scale = from == 0 && to == 0 ? 1 : 1 + generation % 10 / 1000.0;
+                        rates.put(CURRENCIES[from] + "/" + CURRENCIES[to],
+                            BigDecimal.valueOf(PER_USD[to] / PER_USD[from] * (from == to ? 1 : scale)));
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        BigDecimal rate(String from, String to) {
+            lock.readLock().lock();
+            try {
+                return rates.get(from + "/" + to);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        BigDecimal convert(BigDecimal amount, String from, String to) {
+            return amount.multiply(rate(from, to)).setScale(2, java.math.RoundingMode.HALF_EVEN);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package afric.remit.bankapp.benchmark;
+
+import afric.remit.bankapp.dto.TransactionRequest;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.AccountClass;
+import afric.remit.bankapp.model.User;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.AccountingJournalRepository;
+import afric.remit.bankapp.repository.BalanceBucketRepository;
+import afric.remit.bankapp.repository.UserRepository;
+import afric.remit.bankapp.service.AccountService;
+import afric.remit.bankapp.service.DailyRollupService;
+import afric.remit.bankapp.service.HotAccountService;
+import afric.remit.bankapp.service.JournalRecorder;
+import afric.remit.bankapp.service.concurrency.ConcurrencyMetrics;
+import afric.remit.bankapp.service.concurrency.ConcurrencyPolicy;
+import afric.remit.bankapp.service.concurrency.OptimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.concurrency.PessimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.fx.FxRateService;
+import afric.remit.bankapp.service.ledger.JpaLedgerStore;
+import afric.remit.bankapp.service.velocity.VelocityService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Credit throughput against a single merchant account, row-locked versus spread over balance buckets.
+ * Run with: mvn test -Dtest=HotAccountBenchmark -Dbenchmark=true
+ */
+@DataJpaTest(properties = "hot-accounts.sweep-interval-ms=3600000")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AccountService.class, HotAccountService.class, ConcurrencyPolicy.class, ConcurrencyMetrics.class,
+    OptimisticBalanceUpdateStrategy.class, PessimisticBalanceUpdateStrategy.class,
+    JournalRecorder.class, DailyRollupService.class, FxRateService.class, VelocityService.class, JpaLedgerStore.class})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class HotAccountBenchmark {
+
+    private static final int THREADS = 8;
+    private static final int CREDITS_PER_THREAD = 300;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private HotAccountService hotAccountService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountingJournalRepository journalRepository;
+
+    @Autowired
+    private BalanceBucketRepository bucketRepository;
+
+    @Test
+    void singleAccountCreditThroughput() throws Exception {
+        User user = userRepository.save(new User("bench", "password", "bench@example.com"));
+        Account locked = new Account("HOT-LOCKED", BigDecimal.ZERO, user);
+        locked.setAccountClass(AccountClass.MERCHANT);
+        accountRepository.save(locked);
+        Account bucketed = new Account("HOT-BUCKETED", BigDecimal.ZERO, user);
+        bucketed.setAccountClass(AccountClass.MERCHANT);
+        accountRepository.save(bucketed);
+        hotAccountService.enable("HOT-BUCKETED", 16);
+
+        run("HOT-LOCKED");
+        run("HOT-BUCKETED");
+        System.out.printf("%-24s %10.0f credits/sec%n", "row lock (FOR UPDATE)", run("HOT-LOCKED"));
+        System.out.printf("%-24s %10.0f credits/sec%n", "16 balance buckets", run("HOT-BUCKETED"));
+
+        bucketRepository.deleteAll();
+        journalRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private double run(String accountNumber) throws Exception {
+        TransactionRequest request = new TransactionRequest();
+        request.setAccountNumber(accountNumber);
+        request.setAmount(BigDecimal.ONE);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(pool.submit(() -> {
+                for (int i = 0; i < CREDITS_PER_THREAD; i++) {
+                    accountService.credit(request);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+        return THREADS * CREDITS_PER_THREAD / ((System.nanoTime() - start) / 1e9);
+    }
+}
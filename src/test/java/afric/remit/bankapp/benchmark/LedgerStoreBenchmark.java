@@ -0,0 +1,134 @@
+package afric.remit.bankapp.benchmark;
+
+import afric.remit.bankapp.dto.TransactionRequest;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.AccountingJournalRepository;
+import afric.remit.bankapp.repository.DailyRollupRepository;
+import afric.remit.bankapp.repository.LedgerOutboxRepository;
+import afric.remit.bankapp.service.AccountService;
+import afric.remit.bankapp.service.DailyRollupService;
+import afric.remit.bankapp.service.HotAccountService;
+import afric.remit.bankapp.service.JournalRecorder;
+import afric.remit.bankapp.service.concurrency.ConcurrencyMetrics;
+import afric.remit.bankapp.service.concurrency.ConcurrencyPolicy;
+import afric.remit.bankapp.service.concurrency.OptimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.concurrency.PessimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.fx.FxRateService;
+import afric.remit.bankapp.service.ledger.InMemoryLedgerStore;
+import afric.remit.bankapp.service.ledger.JpaLedgerStore;
+import afric.remit.bankapp.service.ledger.LedgerStore;
+import afric.remit.bankapp.service.velocity.VelocityService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * AccountService credit and debit throughput over the JPA ledger store versus the in-memory one.
+ * The in-memory figure is the service's own ceiling; the gap is what storage costs.
+ * Run with: mvn test -Dtest=LedgerStoreBenchmark -Dbenchmark=true
+ */
+@DataJpaTest(properties = {"concurrency.strategy.retail=pessimistic", "hot-accounts.sweep-interval-ms=3600000"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AccountService.class, JpaLedgerStore.class, JournalRecorder.class, DailyRollupService.class,
+    HotAccountService.class, ConcurrencyPolicy.class, ConcurrencyMetrics.class, OptimisticBalanceUpdateStrategy.class,
+    PessimisticBalanceUpdateStrategy.class, FxRateService.class, VelocityService.class})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class LedgerStoreBenchmark {
+
+    private static final int THREADS = 8;
+    private static final int ACCOUNTS = 64;
+    private static final int JPA_OPERATIONS_PER_THREAD = 500;
+    private static final int MEMORY_OPERATIONS_PER_THREAD = 500_000;
+
+    @Autowired
+    private AccountService jpaAccountService;
+
+    @Autowired
+    private LedgerStore jpaStore;
+
+    @Autowired
+    private FxRateService fxRateService;
+
+    @Autowired
+    private VelocityService velocityService;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountingJournalRepository journalRepository;
+
+    @Autowired
+    private LedgerOutboxRepository outboxRepository;
+
+    @Autowired
+    private DailyRollupRepository rollupRepository;
+
+    @Test
+    void postingThroughput() throws Exception {
+        InMemoryLedgerStore memoryStore = new InMemoryLedgerStore();
+        AccountService memoryAccountService = new AccountService();
+        ReflectionTestUtils.setField(memoryAccountService, "ledgerStore", memoryStore);
+        ReflectionTestUtils.setField(memoryAccountService, "fxRateService", fxRateService);
+        ReflectionTestUtils.setField(memoryAccountService, "velocityService", velocityService);
+
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            String number = "LEDGER-BENCH-" + i;
+            jpaStore.open(number, new BigDecimal("1000.00"), "USD", null);
+            memoryStore.open(number, new BigDecimal("1000.00"), "USD", null);
+            numbers.add(number);
+        }
+
+        run(memoryAccountService, numbers, MEMORY_OPERATIONS_PER_THREAD / 10);
+        run(jpaAccountService, numbers, JPA_OPERATIONS_PER_THREAD / 10);
+        System.out.printf("%-10s %14s%n", "store", "postings/sec");
+        System.out.printf("%-10s %14.0f%n", "jpa", run(jpaAccountService, numbers, JPA_OPERATIONS_PER_THREAD));
+        System.out.printf("%-10s %14.0f%n", "memory", run(memoryAccountService, numbers, MEMORY_OPERATIONS_PER_THREAD));
+        System.out.printf("%-10s %14d%n", "journal", memoryStore.journalLength());
+
+        rollupRepository.deleteAll();
+        outboxRepository.deleteAll();
+        journalRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    // Alternating credits and debits of the same amount, so balances stay put and debits never bounce.
+    private static double run(AccountService service, List<String> numbers, int operationsPerThread) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(pool.submit(() -> {
+                TransactionRequest request = new TransactionRequest();
+                request.setAmount(BigDecimal.ONE);
+                for (int i = 0; i < operationsPerThread; i++) {
+                    request.setAccountNumber(numbers.get(ThreadLocalRandom.current().nextInt(numbers.size())));
+                    if (i % 2 == 0) {
+                        service.credit(request);
+                    } else {
+                        service.debit(request);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+        return THREADS * operationsPerThread / ((System.nanoTime() - start) / 1e9);
+    }
+}
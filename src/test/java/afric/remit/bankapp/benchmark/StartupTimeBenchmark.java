@@ -0,0 +1,66 @@
+package afric.remit.bankapp.benchmark;
+
+import afric.remit.bankapp.StartupProfileTest;
+import afric.remit.bankapp.dto.StartupReport;
+import afric.remit.bankapp.service.StartupReportService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Time from SpringApplication.run to a ready context, default profile versus fast-start.
+ * Runs alternate between the profiles in one JVM so both see the same warm class loading;
+ * class-data sharing is applied by the image build and is not part of this comparison.
+ * Run with: mvn test -Dtest=StartupTimeBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StartupTimeBenchmark {
+
+    private static final int RUNS = 5;
+
+    @Test
+    void compareStartupTimes() {
+        run("default", 0);
+        run("fast-start", 0);
+
+        List<Long> defaults = new ArrayList<>();
+        List<Long> fastStarts = new ArrayList<>();
+        for (int i = 1; i <= RUNS; i++) {
+            defaults.add(run("default", i));
+            fastStarts.add(run("fast-start", i));
+        }
+
+        long defaultMedian = median(defaults);
+        long fastStartMedian = median(fastStarts);
+        System.out.printf("%-12s %10s %s%n", "profile", "median ms", "runs");
+        System.out.printf("%-12s %10d %s%n", "default", defaultMedian, defaults);
+        System.out.printf("%-12s %10d %s%n", "fast-start", fastStartMedian, fastStarts);
+
+        assertThat(fastStartMedian).isLessThan(defaultMedian);
+    }
+
+    private long run(String profile, int attempt) {
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = StartupProfileTest.start(profile, "bench-" + profile + attempt)) {
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+            if (attempt == RUNS) {
+                StartupReport report = context.getBean(StartupReportService.class).report();
+                System.out.printf("%s: %d beans instantiated, slowest %s%n", profile, report.getBeansInstantiated(),
+                    report.getSlowestBeans().subList(0, Math.min(5, report.getSlowestBeans().size())));
+            }
+            return elapsed;
+        }
+    }
+
+    private long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get(sorted.size() / 2);
+    }
+}
@@ -0,0 +1,83 @@
+package afric.remit.bankapp.benchmark;
+
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.repository.AccountingJournalRepository;
+import afric.remit.bankapp.service.fx.FxRateService;
+import afric.remit.bankapp.service.velocity.VelocityService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a velocity check (record plus release, so limits are never reached) with a five-minute
+ * and a one-hour rule, for one thread and for eight threads over a spread of accounts.
+ * Run with: mvn test -Dtest=VelocityCheckBenchmark -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VelocityCheckBenchmark {
+
+    private static final int ACCOUNTS = 10_000;
+    private static final long DURATION_MS = 2000;
+    private static final BigDecimal AMOUNT = new BigDecimal("25.00");
+
+    @Test
+    void checkLatency() throws Exception {
+        FxRateService fxRateService = new FxRateService();
+        ReflectionTestUtils.setField(fxRateService, "ratesFile", "src/test/resources/fx/rates.csv");
+        fxRateService.init();
+        VelocityService service = new VelocityService();
+        ReflectionTestUtils.setField(service, "journalRepository", Mockito.mock(AccountingJournalRepository.class));
+        ReflectionTestUtils.setField(service, "fxRateService", fxRateService);
+        ReflectionTestUtils.setField(service, "ruleSpecs", "burst:300:20:5000.00,hourly:3600:60:20000.00");
+        service.init();
+
+        Account[] accounts = new Account[ACCOUNTS];
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts[i] = new Account("VELOCITY-" + i, BigDecimal.ZERO, i % 4 == 0 ? "KES" : "USD", null);
+        }
+
+        run(service, accounts, 8);
+        System.out.printf("%-10s %14s %10s%n", "threads", "checks/sec", "ns/check");
+        for (int threads : new int[] {1, 8}) {
+            double perSecond = run(service, accounts, threads);
+            System.out.printf("%-10d %14.0f %10.0f%n", threads, perSecond, threads * 1e9 / perSecond);
+        }
+        System.out.printf("%-10s %14d%n", "tracked", service.stats().getTrackedAccounts());
+    }
+
+    private static double run(VelocityService service, Account[] accounts, int threads) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MS);
+        long start = System.nanoTime();
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                long checks = 0;
+                while (System.nanoTime() < deadline) {
+                    for (int i = 0; i < 1000; i++) {
+                        Account account = accounts[ThreadLocalRandom.current().nextInt(accounts.length)];
+                        service.release(account, service.record(account, AMOUNT), AMOUNT);
+                    }
+                    checks += 1000;
+                }
+                return checks;
+            }));
+        }
+        long checks = 0;
+        for (Future<Long> future : futures) {
+            checks += future.get();
+        }
+        pool.shutdown();
+        return checks / ((System.nanoTime() - start) / 1e9);
+    }
+}
@@ -1,7 +1,14 @@
 package afric.remit.bankapp.controller;
 
+import afric.remit.bankapp.dto.ActivitySummary;
+import afric.remit.bankapp.dto.PeriodTotal;
 import afric.remit.bankapp.dto.TransactionRequest;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.RollupGranularity;
+import afric.remit.bankapp.service.AccountOpeningService;
 import afric.remit.bankapp.service.AccountService;
+import afric.remit.bankapp.service.AsyncCreditService;
+import afric.remit.bankapp.service.DailyRollupService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,14 +17,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,6 +43,15 @@ class AccountControllerTest {
     @Mock
     private AccountService accountService;
 
+    @Mock
+    private AsyncCreditService asyncCreditService;
+
+    @Mock
+    private AccountOpeningService accountOpeningService;
+
+    @Mock
+    private DailyRollupService dailyRollupService;
+
     @InjectMocks
     private AccountController accountController;
 
@@ -256,4 +278,121 @@ class AccountControllerTest {
 
         verify(accountService, times(1)).credit(any(TransactionRequest.class));
     }
+
+    @Test
+    void creditAsync_WhenValidRequest_ShouldReturnAcceptedWithTrackingId() throws Exception {
+        // Arrange
+        TransactionRequest request = new TransactionRequest();
+        request.setAccountNumber("123456789");
+        request.setAmount(new BigDecimal("100.00"));
+
+        when(asyncCreditService.submit(any(TransactionRequest.class))).thenReturn(Optional.of("tracking-1"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/account/credit/async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.trackingId").value("tracking-1"));
+
+        verify(accountService, never()).credit(any(TransactionRequest.class));
+    }
+
+    @Test
+    void creditAsync_WhenIntakeFull_ShouldReturnServiceUnavailable() throws Exception {
+        // Arrange
+        TransactionRequest request = new TransactionRequest();
+        request.setAccountNumber("123456789");
+        request.setAmount(new BigDecimal("100.00"));
+
+        when(asyncCreditService.submit(any(TransactionRequest.class))).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/account/credit/async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    void creditAsync_WhenMissingAmount_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        TransactionRequest request = new TransactionRequest();
+        request.setAccountNumber("123456789");
+
+        // Act & Assert
+        mockMvc.perform(post("/api/account/credit/async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Amount is required"));
+
+        verify(asyncCreditService, never()).submit(any(TransactionRequest.class));
+    }
+
+    @Test
+    void creditStatus_WhenUnknownTrackingId_ShouldReturnNotFound() throws Exception {
+        // Arrange
+        when(asyncCreditService.status("unknown")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/account/credit/status/unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void open_WhenAuthenticated_ShouldReturnCreatedWithAccountNumber() throws Exception {
+        // Arrange
+        when(accountOpeningService.open("alice", null)).thenReturn(new Account("400000000018", BigDecimal.ZERO, null));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/account/open")
+                .principal(new UsernamePasswordAuthenticationToken("alice", null)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.accountNumber").value("400000000018"));
+    }
+
+    @Test
+    void summary_WhenMonthlyRangeGiven_ShouldReturnRollupTotals() throws Exception {
+        // Arrange
+        LocalDate from = LocalDate.of(2026, 8, 1);
+        LocalDate to = LocalDate.of(2026, 10, 19);
+        when(dailyRollupService.summary("123456789", from, to, RollupGranularity.MONTH)).thenReturn(
+            new ActivitySummary("123456789", "USD", from, to, RollupGranularity.MONTH, Collections.singletonList(
+                new PeriodTotal("2026-09", new BigDecimal("40.00"), new BigDecimal("10.00"), 2, 1))));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/account/123456789/summary")
+                .param("from", "2026-08-01")
+                .param("to", "2026-10-19")
+                .param("granularity", "MONTH"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.periods[0].period").value("2026-09"))
+                .andExpect(jsonPath("$.periods[0].creditCount").value(2));
+    }
+
+    @Test
+    void summary_WhenFromAfterTo_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/account/123456789/summary")
+                .param("from", "2026-10-19")
+                .param("to", "2026-10-01"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(dailyRollupService);
+    }
+
+    @Test
+    void summary_WhenLedgerIsInMemory_ShouldReturnBadRequest() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(accountController, "ledgerStore", "memory");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/account/123456789/summary"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Not available with ledger.store=memory"));
+
+        verifyNoInteractions(dailyRollupService);
+    }
 }
@@ -3,6 +3,7 @@ package afric.remit.bankapp.controller;
 import afric.remit.bankapp.dto.LoginRequest;
 import afric.remit.bankapp.dto.RegisterRequest;
 import afric.remit.bankapp.service.UserService;
+import afric.remit.bankapp.service.token.TokenRevocationService;
 import afric.remit.bankapp.util.JwtUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,7 +18,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import static org.hamcrest.Matchers.containsString;
 
+import java.util.Date;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,6 +38,9 @@ class AuthControllerTest {
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private TokenRevocationService revocationService;
+
     @InjectMocks
     private AuthController authController;
 
@@ -219,4 +226,28 @@ class AuthControllerTest {
 
         verify(userService, times(1)).register(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void logout_WhenBearerToken_ShouldRevokeItUntilExpiry() throws Exception {
+        // Arrange
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        when(jwtUtil.extractTokenId("token-value")).thenReturn("123e4567-e89b-12d3-a456-426614174000");
+        when(jwtUtil.extractExpiration("token-value")).thenReturn(expiration);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/logout").header("Authorization", "Bearer token-value"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Logged out successfully"));
+
+        verify(revocationService).revoke("123e4567-e89b-12d3-a456-426614174000", expiration.getTime());
+    }
+
+    @Test
+    void logout_WhenNoBearerToken_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/logout"))
+                .andExpect(status().isBadRequest());
+
+        verify(revocationService, never()).revoke(any(), anyLong());
+    }
+}
@@ -0,0 +1,68 @@
+package afric.remit.bankapp.controller;
+
+import afric.remit.bankapp.config.SecurityConfig;
+import afric.remit.bankapp.service.token.TokenRevocationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Collections;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class TokenControllerTest {
+
+    private static final String TOKEN_ID = "123e4567-e89b-12d3-a456-426614174000";
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private TokenRevocationService revocationService;
+
+    @InjectMocks
+    private TokenController tokenController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(tokenController).build();
+    }
+
+    @Test
+    void revoke_WhenAdministrator_ShouldRevokeToken() throws Exception {
+        // Arrange
+        UsernamePasswordAuthenticationToken admin = new UsernamePasswordAuthenticationToken("root", null,
+            Collections.singletonList(new SimpleGrantedAuthority(SecurityConfig.ADMIN_AUTHORITY)));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tokens/" + TOKEN_ID + "/revoke").principal(admin))
+                .andExpect(status().isOk());
+
+        verify(revocationService).revoke(TOKEN_ID);
+    }
+
+    @Test
+    void revoke_WhenNotAdministrator_ShouldReturnForbidden() throws Exception {
+        // Arrange
+        UsernamePasswordAuthenticationToken user = new UsernamePasswordAuthenticationToken("alice", null,
+            Collections.emptyList());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tokens/" + TOKEN_ID + "/revoke").principal(user))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.message").value("Administrator role required"));
+
+        verifyNoInteractions(revocationService);
+    }
+}
@@ -0,0 +1,55 @@
+package afric.remit.bankapp.controller;
+
+import afric.remit.bankapp.dto.AccountOverview;
+import afric.remit.bankapp.service.AccountOverviewService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private AccountOverviewService accountOverviewService;
+
+    @InjectMocks
+    private UserController userController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(userController).build();
+    }
+
+    @Test
+    void myAccounts_WhenAuthenticated_ShouldReturnOverviewOfCurrentUser() throws Exception {
+        // Arrange
+        AccountOverview overview = new AccountOverview("123456789", new BigDecimal("100.00"),
+            Collections.emptyList(), Collections.emptyList());
+        when(accountOverviewService.getOverview("testuser")).thenReturn(List.of(overview));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/users/me/accounts")
+                .principal(new UsernamePasswordAuthenticationToken("testuser", null)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].accountNumber").value("123456789"))
+                .andExpect(jsonPath("$[0].balance").value(100.00));
+
+        verify(accountOverviewService, times(1)).getOverview("testuser");
+    }
+}
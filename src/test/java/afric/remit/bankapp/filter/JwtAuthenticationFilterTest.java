@@ -0,0 +1,114 @@
+package afric.remit.bankapp.filter;
+
+import afric.remit.bankapp.config.SecurityConfig;
+import afric.remit.bankapp.controller.AuthController;
+import afric.remit.bankapp.controller.TokenController;
+import afric.remit.bankapp.model.User;
+import afric.remit.bankapp.repository.UserRepository;
+import afric.remit.bankapp.service.UserService;
+import afric.remit.bankapp.service.limiter.AdaptiveConcurrencyLimiter;
+import afric.remit.bankapp.service.limiter.UserRateLimiter;
+import afric.remit.bankapp.service.token.TokenRevocationService;
+import afric.remit.bankapp.util.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Runs the application's own security chain in front of the token endpoints.
+@WebMvcTest(controllers = {TokenController.class, AuthController.class}, properties = {
+    "security.admin-users=root", "tokens.revocation-file=target/revoked-tokens-${random.uuid}.bin"})
+@Import({SecurityConfig.class, JwtUtil.class, TokenRevocationService.class})
+class JwtAuthenticationFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @MockBean
+    private UserRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findByUsername("root")).thenReturn(Optional.of(new User("root", "hash", "root@example.com")));
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(new User("alice", "hash", "alice@example.com")));
+    }
+
+    @Test
+    void request_WhenBearerTokenIsValid_ShouldAuthenticateWithUsersAuthorities() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/tokens/" + UUID.randomUUID() + "/revoke")
+                .header("Authorization", "Bearer " + token("root")))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/tokens/" + UUID.randomUUID() + "/revoke")
+                .header("Authorization", "Bearer " + token("alice")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void request_WhenBearerTokenWasRevokedByLogout_ShouldReturnUnauthorized() throws Exception {
+        // Arrange
+        String bearer = "Bearer " + token("root");
+        mockMvc.perform(post("/api/logout").header("Authorization", bearer))
+                .andExpect(status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tokens/" + UUID.randomUUID() + "/revoke").header("Authorization", bearer))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Invalid or revoked token"));
+    }
+
+    @Test
+    void request_WhenBearerTokenWasRevokedByAdministrator_ShouldReturnUnauthorized() throws Exception {
+        // Arrange
+        String stolen = token("alice");
+        mockMvc.perform(post("/api/tokens/" + jwtUtil.extractTokenId(stolen) + "/revoke")
+                .header("Authorization", "Bearer " + token("root")))
+                .andExpect(status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/logout").header("Authorization", "Bearer " + stolen))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void request_WhenBearerTokenIsForged_ShouldReturnUnauthorized() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/logout").header("Authorization", "Bearer not.a.token"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void request_WhenNoCredentials_ShouldReturnUnauthorized() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/tokens/" + UUID.randomUUID() + "/revoke"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String token(String username) {
+        return jwtUtil.generateToken(new UsernamePasswordAuthenticationToken(username, null));
+    }
+}
@@ -0,0 +1,120 @@
+package afric.remit.bankapp.filter;
+
+import afric.remit.bankapp.service.limiter.AdaptiveConcurrencyLimiter;
+import afric.remit.bankapp.service.limiter.UserRateLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoadSheddingFilterTest {
+
+    @Mock
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    @Mock
+    private UserRateLimiter rateLimiter;
+
+    @InjectMocks
+    private LoadSheddingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "paths", Arrays.asList("/api/account", "/api/login"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_WhenWithinLimits_ShouldPassThroughAndReleasePermit() throws Exception {
+        // Arrange
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("alice", null, Collections.emptyList()));
+        when(rateLimiter.tryAcquire("user:alice")).thenReturn(true);
+        when(concurrencyLimiter.tryAcquire()).thenReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/account/credit"), response, chain);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+        verify(concurrencyLimiter).release(anyLong());
+    }
+
+    @Test
+    void doFilter_WhenCallerOverRate_ShouldReturn429() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/login");
+        request.setRemoteAddr("10.0.0.7");
+        when(rateLimiter.tryAcquire("ip:10.0.0.7")).thenReturn(false);
+        when(rateLimiter.retryAfterSeconds("ip:10.0.0.7")).thenReturn(2L);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(request, response, chain);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(chain.getRequest()).isNull();
+        verifyNoInteractions(concurrencyLimiter);
+    }
+
+    @Test
+    void doFilter_WhenConcurrencyLimitReached_ShouldReturn503() throws Exception {
+        // Arrange
+        when(rateLimiter.tryAcquire(anyString())).thenReturn(true);
+        when(concurrencyLimiter.tryAcquire()).thenReturn(false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/account/debit"), response, chain);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getContentAsString()).contains("Server is busy");
+        assertThat(chain.getRequest()).isNull();
+        verify(concurrencyLimiter, never()).release(anyLong());
+    }
+
+    @Test
+    void doFilter_WhenPathNotProtected_ShouldSkipLimiters() throws Exception {
+        // Arrange
+        MockFilterChain chain = new MockFilterChain();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/metrics/load-shedding"),
+            new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertThat(chain.getRequest()).isNotNull();
+        verifyNoInteractions(rateLimiter, concurrencyLimiter);
+    }
+}
@@ -0,0 +1,133 @@
+package afric.remit.bankapp.repository;
+
+import afric.remit.bankapp.dto.CacheRegionStats;
+import afric.remit.bankapp.dto.TransactionRequest;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.User;
+import afric.remit.bankapp.service.AccountService;
+import afric.remit.bankapp.service.CacheStatisticsService;
+import afric.remit.bankapp.service.DailyRollupService;
+import afric.remit.bankapp.service.HotAccountService;
+import afric.remit.bankapp.service.JournalRecorder;
+import afric.remit.bankapp.service.concurrency.ConcurrencyMetrics;
+import afric.remit.bankapp.service.concurrency.ConcurrencyPolicy;
+import afric.remit.bankapp.service.concurrency.OptimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.concurrency.PessimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.fx.FxRateService;
+import afric.remit.bankapp.service.ledger.JpaLedgerStore;
+import afric.remit.bankapp.service.velocity.VelocityService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs without the usual test transaction: cache entries are only published on commit.
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AccountService.class, CacheStatisticsService.class, ConcurrencyPolicy.class, ConcurrencyMetrics.class,
+    OptimisticBalanceUpdateStrategy.class, PessimisticBalanceUpdateStrategy.class, HotAccountService.class,
+    JournalRecorder.class, DailyRollupService.class, FxRateService.class, VelocityService.class, JpaLedgerStore.class})
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountingJournalRepository journalRepository;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        User user = userRepository.save(new User("cached", "password", "cached@example.com"));
+        accountRepository.save(new Account("CACHE-1", new BigDecimal("100.00"), user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        journalRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void findByUsername_WhenRepeated_ShouldBeServedFromCache() {
+        // Arrange
+        tx.execute(status -> userRepository.findByUsername("cached"));
+
+        // Act
+        statistics.clear();
+        User user = tx.execute(status -> userRepository.findByUsername("cached").orElseThrow());
+
+        // Assert
+        assertThat(user.getEmail()).isEqualTo("cached@example.com");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+    }
+
+    @Test
+    void findByAccountNumber_AfterCredit_ShouldSeeUpdatedBalance() {
+        // Arrange
+        tx.execute(status -> accountRepository.findByAccountNumber("CACHE-1"));
+        TransactionRequest request = new TransactionRequest();
+        request.setAccountNumber("CACHE-1");
+        request.setAmount(new BigDecimal("25.00"));
+
+        // Act
+        accountService.credit(request);
+        statistics.clear();
+        Account account = tx.execute(status -> accountRepository.findByAccountNumber("CACHE-1").orElseThrow());
+
+        // Assert
+        assertThat(account.getBalance()).isEqualByComparingTo("125.00");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void getRegionStatistics_ShouldReportHitRatioPerRegion() {
+        // Arrange
+        tx.execute(status -> userRepository.findByUsername("cached"));
+        tx.execute(status -> userRepository.findByUsername("cached"));
+
+        // Act
+        List<CacheRegionStats> regions = cacheStatisticsService.getRegionStatistics();
+
+        // Assert
+        assertThat(regions).extracting(CacheRegionStats::getRegion).contains("user", "account");
+        assertThat(regions).filteredOn(r -> r.getRegion().equals("user"))
+            .allSatisfy(r -> assertThat(r.getHitRatio()).isGreaterThan(0));
+    }
+}
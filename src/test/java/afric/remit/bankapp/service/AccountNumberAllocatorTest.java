@@ -0,0 +1,204 @@
+package afric.remit.bankapp.service;
+
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.User;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.NumberSequenceRepository;
+import afric.remit.bankapp.repository.UserRepository;
+import afric.remit.bankapp.service.concurrency.ConcurrencyMetrics;
+import afric.remit.bankapp.service.concurrency.ConcurrencyPolicy;
+import afric.remit.bankapp.service.concurrency.OptimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.concurrency.PessimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.fx.FxRateService;
+import afric.remit.bankapp.service.ledger.JpaLedgerStore;
+import afric.remit.bankapp.util.Luhn;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "account-numbers.block-size=50")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AccountNumberAllocator.class, AccountOpeningService.class, FxRateService.class, JpaLedgerStore.class,
+    JournalRecorder.class, DailyRollupService.class, HotAccountService.class, ConcurrencyPolicy.class,
+    ConcurrencyMetrics.class, OptimisticBalanceUpdateStrategy.class, PessimisticBalanceUpdateStrategy.class})
+class AccountNumberAllocatorTest {
+
+    private static final int THREADS_PER_NODE = 4;
+    private static final int NUMBERS_PER_THREAD = 500;
+
+    @Autowired
+    private AccountOpeningService accountOpeningService;
+
+    @Autowired
+    private NumberSequenceRepository sequenceRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void next_WhenTwoNodesAllocateConcurrently_ShouldNeverDuplicate() throws Exception {
+        // Arrange
+        AccountNumberAllocator node = node();
+        AccountNumberAllocator otherNode = node();
+        long before = sequenceRepository.findById(AccountNumberAllocator.SEQUENCE)
+            .map(sequence -> sequence.getNextValue()).orElse(1L);
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS_PER_NODE * 2);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        // Act
+        for (AccountNumberAllocator allocating : List.of(node, otherNode)) {
+            for (int t = 0; t < THREADS_PER_NODE; t++) {
+                futures.add(pool.submit(() -> {
+                    int duplicates = 0;
+                    for (int i = 0; i < NUMBERS_PER_THREAD; i++) {
+                        if (!issued.add(allocating.next())) {
+                            duplicates++;
+                        }
+                    }
+                    return duplicates;
+                }));
+            }
+        }
+        int duplicates = 0;
+        for (Future<Integer> future : futures) {
+            duplicates += future.get();
+        }
+        pool.shutdown();
+
+        // Assert
+        int total = THREADS_PER_NODE * 2 * NUMBERS_PER_THREAD;
+        long leases = node.getLeases() + otherNode.getLeases();
+        assertThat(duplicates).isZero();
+        assertThat(issued).hasSize(total).allMatch(Luhn::isValid).allMatch(number -> number.length() == 12);
+        assertThat(leases).isBetween((long) total / 50, (long) total / 50 + 2);
+        assertThat(sequenceRepository.findById(AccountNumberAllocator.SEQUENCE).orElseThrow().getNextValue())
+            .isEqualTo(before + leases * 50);
+    }
+
+    @Test
+    void open_ShouldCreateZeroBalanceAccountWithAllocatedNumber() {
+        // Arrange
+        userRepository.save(new User("opener", "password", "opener@example.com"));
+
+        // Act
+        String first = accountOpeningService.open("opener", null).getAccountNumber();
+        String second = accountOpeningService.open("opener", null).getAccountNumber();
+
+        // Assert
+        assertThat(first).startsWith("40").hasSize(12).isNotEqualTo(second);
+        assertThat(Luhn.isValid(first)).isTrue();
+        assertThat(Luhn.isValid(second)).isTrue();
+        assertThat(accountRepository.findBalancesByUsername("opener")).hasSize(2);
+    }
+
+    @Test
+    void open_WhenAllocatedNumberIsAlreadyTaken_ShouldMoveOnToNextNumber() {
+        // Arrange
+        User user = userRepository.save(new User("legacy", "password", "legacy@example.com"));
+        AccountNumberAllocator node = node();
+        long start = sequenceRepository.findById(AccountNumberAllocator.SEQUENCE)
+            .map(sequence -> sequence.getNextValue()).orElse(1L);
+        accountRepository.save(new Account(node.format(start), BigDecimal.ZERO, user));
+        Object allocator = ReflectionTestUtils.getField(accountOpeningService, "accountNumberAllocator");
+        ReflectionTestUtils.setField(accountOpeningService, "accountNumberAllocator", node);
+
+        // Act
+        String opened;
+        try {
+            opened = accountOpeningService.open("legacy", null).getAccountNumber();
+        } finally {
+            ReflectionTestUtils.setField(accountOpeningService, "accountNumberAllocator", allocator);
+        }
+
+        // Assert
+        assertThat(opened).isEqualTo(node.format(start + 1));
+        assertThat(accountRepository.findBalancesByUsername("legacy")).hasSize(2);
+    }
+
+    @Test
+    void next_WhenRangeRunsOut_ShouldIssueLastValuesAndLeaveSequenceAtLimit() {
+        // Arrange
+        node().next();
+        long before = sequenceRepository.findById(AccountNumberAllocator.SEQUENCE).orElseThrow().getNextValue();
+        jdbcTemplate.update("update number_sequence set next_value = ? where name = ?",
+            999_999_970L, AccountNumberAllocator.SEQUENCE);
+        AccountNumberAllocator node = node();
+        List<String> issued = new ArrayList<>();
+
+        try {
+            // Act
+            for (int i = 0; i < 30; i++) {
+                issued.add(node.next());
+            }
+
+            // Assert
+            assertThatThrownBy(node::next).hasMessage("Account number range exhausted");
+            assertThatThrownBy(node::next).hasMessage("Account number range exhausted");
+            assertThat(issued).startsWith(node.format(999_999_970L)).endsWith(node.format(999_999_999L))
+                .allMatch(number -> number.length() == 12);
+            assertThat(sequenceRepository.findById(AccountNumberAllocator.SEQUENCE).orElseThrow().getNextValue())
+                .isEqualTo(1_000_000_000L);
+        } finally {
+            jdbcTemplate.update("update number_sequence set next_value = ? where name = ?",
+                before, AccountNumberAllocator.SEQUENCE);
+        }
+    }
+
+    @Test
+    void isInRange_ShouldMatchOnlyNumbersOfIssuedShape() {
+        AccountNumberAllocator node = node();
+        assertThat(node.isInRange(node.format(7))).isTrue();
+        assertThat(node.isInRange("400000000070")).isTrue();
+        assertThat(node.isInRange("410000000070")).isFalse();
+        assertThat(node.isInRange("40000000007")).isFalse();
+        assertThat(node.isInRange("40000000007A")).isFalse();
+        assertThat(node.isInRange("IMP-1")).isFalse();
+    }
+
+    // A separate allocator instance stands in for another application node sharing the database.
+    private AccountNumberAllocator node() {
+        AccountNumberAllocator node = new AccountNumberAllocator();
+        ReflectionTestUtils.setField(node, "sequenceRepository", sequenceRepository);
+        ReflectionTestUtils.setField(node, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(node, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(node, "prefix", "40");
+        ReflectionTestUtils.setField(node, "digits", 9);
+        ReflectionTestUtils.setField(node, "blockSize", 50);
+        return node;
+    }
+}
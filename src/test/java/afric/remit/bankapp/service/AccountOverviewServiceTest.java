@@ -0,0 +1,109 @@
+package afric.remit.bankapp.service;
+
+import afric.remit.bankapp.dto.AccountOverview;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.AccountingJournal;
+import afric.remit.bankapp.model.TransactionType;
+import afric.remit.bankapp.model.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(AccountOverviewService.class)
+class AccountOverviewServiceTest {
+
+    @Autowired
+    private AccountOverviewService accountOverviewService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void getOverview_ShouldUseSameStatementCountForOneOrManyAccounts() {
+        // Arrange
+        createUserWithAccounts("single", 1, 3);
+        createUserWithAccounts("many", 20, 15);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        statistics.clear();
+        List<AccountOverview> single = accountOverviewService.getOverview("single");
+        long singleStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        List<AccountOverview> many = accountOverviewService.getOverview("many");
+        long manyStatements = statistics.getPrepareStatementCount();
+
+        // Assert
+        assertThat(single).hasSize(1);
+        assertThat(many).hasSize(20);
+        assertThat(singleStatements).isEqualTo(3);
+        assertThat(manyStatements).isEqualTo(3);
+    }
+
+    @Test
+    void getOverview_ShouldLimitRecentTransactionsAndTotalByMonth() {
+        // Arrange
+        createUserWithAccounts("alice", 1, 15);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        AccountOverview overview = accountOverviewService.getOverview("alice").get(0);
+
+        // Assert
+        assertThat(overview.getRecentTransactions()).hasSize(10);
+        assertThat(overview.getRecentTransactions().get(0).getType()).isEqualTo(TransactionType.CREDIT);
+        assertThat(overview.getMonthlyTotals()).hasSize(1);
+        assertThat(overview.getMonthlyTotals().get(0).getCredits()).isEqualByComparingTo("150.00");
+    }
+
+    @Test
+    void getOverview_WhenUserHasNoAccounts_ShouldRunSingleStatement() {
+        // Act
+        statistics.clear();
+        List<AccountOverview> overview = accountOverviewService.getOverview("nobody");
+
+        // Assert
+        assertThat(overview).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private void createUserWithAccounts(String username, int accounts, int entriesPerAccount) {
+        User user = new User(username, "password", username + "@example.com");
+        entityManager.persist(user);
+        LocalDateTime now = LocalDateTime.now();
+        for (int a = 0; a < accounts; a++) {
+            Account account = new Account(username + "-" + a, new BigDecimal("100.00"), user);
+            entityManager.persist(account);
+            for (int e = 0; e < entriesPerAccount; e++) {
+                entityManager.persist(new AccountingJournal(new BigDecimal("10.00"), now.minusSeconds(e),
+                    TransactionType.CREDIT, account));
+            }
+        }
+    }
+}
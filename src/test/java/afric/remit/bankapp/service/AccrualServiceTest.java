@@ -0,0 +1,235 @@
+package afric.remit.bankapp.service;
+
+import afric.remit.bankapp.dto.AccrualReport;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.AccrualChunk;
+import afric.remit.bankapp.model.AccrualKind;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.AccrualChunkRepository;
+import afric.remit.bankapp.repository.projection.AccountBalanceView;
+import afric.remit.bankapp.repository.projection.IdRange;
+import afric.remit.bankapp.service.fx.FxRateService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccrualServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccrualChunkRepository chunkRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache secondLevelCache;
+
+    @Mock
+    private DailyRollupService dailyRollupService;
+
+    @Mock
+    private HotAccountService hotAccountService;
+
+    @InjectMocks
+    private AccrualService accrualService;
+
+    @BeforeEach
+    void setUp() {
+        FxRateService fxRateService = new FxRateService();
+        ReflectionTestUtils.setField(fxRateService, "baseCurrency", "USD");
+        ReflectionTestUtils.setField(fxRateService, "ratesFile", "src/test/resources/fx/rates.csv");
+        fxRateService.init();
+        ReflectionTestUtils.setField(accrualService, "fxRateService", fxRateService);
+        ReflectionTestUtils.setField(accrualService, "chunkSize", 10L);
+        ReflectionTestUtils.setField(accrualService, "parallelism", 2);
+        lenient().when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
+        lenient().when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(inv -> {
+            int[] counts = new int[((List<?>) inv.getArgument(1)).size()];
+            Arrays.fill(counts, 1);
+            return counts;
+        });
+    }
+
+    @Test
+    void run_WhenNoCheckpoints_ShouldPostEveryChunk() {
+        // Arrange
+        when(accountRepository.findIdRange()).thenReturn(idRange(1, 25));
+        when(chunkRepository.findCompletedFromIds("INTEREST:2026-10")).thenReturn(Collections.emptyList());
+        when(accountRepository.findBalancesInRange(anyLong(), anyLong())).thenAnswer(inv ->
+            accounts(Math.max(1L, (Long) inv.getArgument(0)), Math.min(25L, (Long) inv.getArgument(1))));
+
+        // Act
+        AccrualReport report = accrualService.run(AccrualKind.INTEREST, YearMonth.of(2026, 10));
+
+        // Assert
+        assertThat(report.getChunksProcessed()).isEqualTo(3);
+        assertThat(report.getChunksSkipped()).isZero();
+        assertThat(report.getEntriesPosted()).isEqualTo(25);
+        verify(jdbcTemplate, times(3)).batchUpdate(eq(AccrualService.INSERT_JOURNAL), anyList());
+        verify(jdbcTemplate, times(3)).batchUpdate(eq(AccrualService.UPDATE_BALANCE), anyList());
+        verify(jdbcTemplate, times(3)).update(eq(AccrualService.INSERT_OUTBOX), anyLong(), anyLong(), any(Timestamp.class));
+        verify(chunkRepository, times(3)).save(any(AccrualChunk.class));
+        verify(secondLevelCache, times(25)).evict(eq(Account.class), anyLong());
+    }
+
+    @Test
+    void run_WhenChunkAlreadyCheckpointed_ShouldSkipIt() {
+        // Arrange
+        when(accountRepository.findIdRange()).thenReturn(idRange(1, 25));
+        when(chunkRepository.findCompletedFromIds("FEE:2026-10")).thenReturn(List.of(0L, 10L));
+        when(accountRepository.findBalancesInRange(20L, 29L)).thenReturn(accounts(20, 25));
+
+        // Act
+        AccrualReport report = accrualService.run(AccrualKind.FEE, YearMonth.of(2026, 10));
+
+        // Assert
+        assertThat(report.getChunksSkipped()).isEqualTo(2);
+        assertThat(report.getChunksProcessed()).isEqualTo(1);
+        verify(accountRepository, never()).findBalancesInRange(0L, 9L);
+        verify(accountRepository, never()).findBalancesInRange(10L, 19L);
+    }
+
+    @Test
+    void run_WhenCheckpointsUseDifferentChunkSize_ShouldRefuseToResume() {
+        // Arrange
+        when(accountRepository.findIdRange()).thenReturn(idRange(1, 25));
+        when(chunkRepository.findCompletedFromIds("FEE:2026-10")).thenReturn(List.of(5L));
+
+        // Act & Assert
+        assertThatThrownBy(() -> accrualService.run(AccrualKind.FEE, YearMonth.of(2026, 10)))
+            .isInstanceOf(IllegalStateException.class);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void postChunk_ShouldWriteMonthlyInterestAsSignedBalanceDelta() {
+        // Arrange
+        when(accountRepository.findBalancesInRange(0L, 9L)).thenReturn(accounts(1, 1));
+
+        // Act
+        accrualService.postChunk("INTEREST:2026-10", AccrualKind.INTEREST, 0L, 9L);
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(AccrualService.UPDATE_BALANCE), rows.capture());
+        assertThat((BigDecimal) rows.getValue().get(0)[0]).isEqualByComparingTo("2.00");
+    }
+
+    @Test
+    void postChunk_WhenBalanceNoLongerCoversFee_ShouldNotJournalIt() {
+        // Arrange
+        when(accountRepository.findBalancesInRange(0L, 9L)).thenReturn(accounts(1, 2));
+        when(jdbcTemplate.batchUpdate(eq(AccrualService.CHARGE_FEE), anyList())).thenReturn(new int[] {0, 1});
+
+        // Act
+        List<Long> charged = accrualService.postChunk("FEE:2026-10", AccrualKind.FEE, 0L, 9L);
+
+        // Assert
+        assertThat(charged).containsExactly(2L);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(AccrualService.INSERT_JOURNAL), rows.capture());
+        assertThat(rows.getValue()).hasSize(1);
+        assertThat(rows.getValue().get(0)[3]).isEqualTo(2L);
+        verify(jdbcTemplate, never()).batchUpdate(eq(AccrualService.UPDATE_BALANCE), anyList());
+    }
+
+    @Test
+    void postChunk_WhenChunkHasHotAccounts_ShouldConsolidateThemBeforeChargingFee() {
+        // Arrange
+        when(accountRepository.findIdsWithBalanceBucketsInRange(0L, 9L)).thenReturn(List.of(2L));
+        when(accountRepository.findBalancesInRange(0L, 9L)).thenReturn(accounts(1, 2));
+
+        // Act
+        accrualService.postChunk("FEE:2026-10", AccrualKind.FEE, 0L, 9L);
+
+        // Assert
+        InOrder order = inOrder(hotAccountService, accountRepository, jdbcTemplate);
+        order.verify(hotAccountService).consolidate(2L);
+        order.verify(accountRepository).flush();
+        order.verify(accountRepository).findBalancesInRange(0L, 9L);
+        order.verify(jdbcTemplate).batchUpdate(eq(AccrualService.CHARGE_FEE), anyList());
+    }
+
+    @Test
+    void postChunk_WhenPostingInterest_ShouldLeaveHotAccountSlotsAlone() {
+        // Arrange
+        when(accountRepository.findBalancesInRange(0L, 9L)).thenReturn(accounts(1, 1));
+
+        // Act
+        accrualService.postChunk("INTEREST:2026-10", AccrualKind.INTEREST, 0L, 9L);
+
+        // Assert
+        verifyNoInteractions(hotAccountService);
+        verify(accountRepository, never()).findIdsWithBalanceBucketsInRange(anyLong(), anyLong());
+    }
+
+    @Test
+    void accrue_WhenBalanceBelowFee_ShouldChargeNothing() {
+        assertThat(accrualService.accrue(AccrualKind.FEE, new BigDecimal("0.50"), "USD")).isEqualByComparingTo("0");
+        assertThat(accrualService.accrue(AccrualKind.FEE, new BigDecimal("10.00"), "USD")).isEqualByComparingTo("1.00");
+    }
+
+    @Test
+    void accrue_WhenAccountIsNotInBaseCurrency_ShouldChargeConvertedFee() {
+        assertThat(accrualService.accrue(AccrualKind.FEE, new BigDecimal("500.00"), "KES")).isEqualByComparingTo("128.00");
+        assertThat(accrualService.accrue(AccrualKind.FEE, new BigDecimal("127.99"), "KES")).isEqualByComparingTo("0");
+        assertThat(accrualService.accrue(AccrualKind.FEE, new BigDecimal("5.00"), "EUR")).isEqualByComparingTo("0.80");
+    }
+
+    private static IdRange idRange(long min, long max) {
+        return new IdRange() {
+            public Long getMinId() { return min; }
+            public Long getMaxId() { return max; }
+        };
+    }
+
+    private static List<AccountBalanceView> accounts(long from, long to) {
+        List<AccountBalanceView> result = new ArrayList<>();
+        for (long id = from; id <= to; id++) {
+            long accountId = id;
+            result.add(new AccountBalanceView() {
+                public Long getId() { return accountId; }
+                public String getAccountNumber() { return "ACC" + accountId; }
+                public BigDecimal getBalance() { return new BigDecimal("1200.00"); }
+                public String getCurrency() { return "USD"; }
+            });
+        }
+        return result;
+    }
+}
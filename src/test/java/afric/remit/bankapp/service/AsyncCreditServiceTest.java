@@ -0,0 +1,201 @@
+package afric.remit.bankapp.service;
+
+import afric.remit.bankapp.dto.CreditStatus;
+import afric.remit.bankapp.dto.LedgerEntry;
+import afric.remit.bankapp.dto.TransactionRequest;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.AccountingJournal;
+import afric.remit.bankapp.model.User;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.AccountingJournalRepository;
+import afric.remit.bankapp.repository.BalanceBucketRepository;
+import afric.remit.bankapp.repository.UserRepository;
+import afric.remit.bankapp.service.concurrency.ConcurrencyMetrics;
+import afric.remit.bankapp.service.concurrency.ConcurrencyPolicy;
+import afric.remit.bankapp.service.concurrency.OptimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.concurrency.PessimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.fx.FxRateService;
+import afric.remit.bankapp.service.ledger.InMemoryLedgerStore;
+import afric.remit.bankapp.service.ledger.JpaLedgerStore;
+import afric.remit.bankapp.service.ledger.LedgerStore;
+import afric.remit.bankapp.service.velocity.VelocityService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {"async-credit.batch-size=16", "hot-accounts.sweep-interval-ms=3600000"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AsyncCreditService.class, AccountService.class, HotAccountService.class, ConcurrencyPolicy.class,
+    ConcurrencyMetrics.class, OptimisticBalanceUpdateStrategy.class, PessimisticBalanceUpdateStrategy.class,
+    JournalRecorder.class, DailyRollupService.class, FxRateService.class, VelocityService.class, JpaLedgerStore.class})
+class AsyncCreditServiceTest {
+
+    @Autowired
+    private AsyncCreditService asyncCreditService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountingJournalRepository journalRepository;
+
+    @Autowired
+    private BalanceBucketRepository bucketRepository;
+
+    @Autowired
+    private LedgerStore ledgerStore;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("async", "password", "async@example.com"));
+        accountRepository.save(new Account("ASYNC-1", BigDecimal.ZERO, user));
+        accountRepository.save(new Account("ASYNC-2", BigDecimal.ZERO, user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bucketRepository.deleteAll();
+        journalRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void submit_ShouldApplyCreditsInPerAccountOrder() throws Exception {
+        // Arrange
+        List<String> trackingIds = new ArrayList<>();
+
+        // Act
+        for (int i = 1; i <= 100; i++) {
+            trackingIds.add(asyncCreditService.submit(request(i % 2 == 0 ? "ASYNC-1" : "ASYNC-2", i)).orElseThrow());
+        }
+        awaitCompletion(trackingIds);
+
+        // Assert
+        assertThat(trackingIds).allSatisfy(id ->
+            assertThat(asyncCreditService.status(id).orElseThrow().getState()).isEqualTo(CreditStatus.State.APPLIED));
+        assertThat(accountRepository.findByAccountNumber("ASYNC-1").orElseThrow().getBalance()).isEqualByComparingTo("2550");
+        assertThat(accountRepository.findByAccountNumber("ASYNC-2").orElseThrow().getBalance()).isEqualByComparingTo("2500");
+        assertThat(amountsInJournalOrder("ASYNC-1")).isSorted();
+        assertThat(amountsInJournalOrder("ASYNC-2")).isSorted();
+    }
+
+    @Test
+    void submit_WhenAccountUnknown_ShouldReportFailure() throws Exception {
+        // Act
+        String trackingId = asyncCreditService.submit(request("MISSING", 10)).orElseThrow();
+        awaitCompletion(List.of(trackingId));
+
+        // Assert
+        CreditStatus status = asyncCreditService.status(trackingId).orElseThrow();
+        assertThat(status.getState()).isEqualTo(CreditStatus.State.FAILED);
+        assertThat(status.getMessage()).isEqualTo("Account not found");
+    }
+
+    @Test
+    void submit_WhenAccountLookupThrows_ShouldFailBatchAndKeepConsuming() throws Exception {
+        // Arrange
+        LedgerStore failing = mock(LedgerStore.class);
+        when(failing.findAccount("ASYNC-1")).thenThrow(new RuntimeException("Database unavailable"));
+        ReflectionTestUtils.setField(asyncCreditService, "ledgerStore", failing);
+
+        // Act
+        String failed;
+        try {
+            failed = asyncCreditService.submit(request("ASYNC-1", 10)).orElseThrow();
+            awaitCompletion(List.of(failed));
+        } finally {
+            ReflectionTestUtils.setField(asyncCreditService, "ledgerStore", ledgerStore);
+        }
+        String applied = asyncCreditService.submit(request("ASYNC-1", 20)).orElseThrow();
+        awaitCompletion(List.of(applied));
+
+        // Assert
+        CreditStatus failedStatus = asyncCreditService.status(failed).orElseThrow();
+        assertThat(failedStatus.getState()).isEqualTo(CreditStatus.State.FAILED);
+        assertThat(failedStatus.getMessage()).isEqualTo("Database unavailable");
+        assertThat(asyncCreditService.status(applied).orElseThrow().getState()).isEqualTo(CreditStatus.State.APPLIED);
+        assertThat(accountRepository.findByAccountNumber("ASYNC-1").orElseThrow().getBalance()).isEqualByComparingTo("20");
+    }
+
+    @Test
+    void submit_WhenLedgerIsInMemory_ShouldApplyThroughTheStore() throws Exception {
+        // Arrange
+        InMemoryLedgerStore memoryStore = new InMemoryLedgerStore();
+        memoryStore.open("MEM-1", BigDecimal.ZERO, "USD", null);
+        FxRateService fxRateService = new FxRateService();
+        ReflectionTestUtils.setField(fxRateService, "baseCurrency", "USD");
+        ReflectionTestUtils.setField(fxRateService, "ratesFile", "src/test/resources/fx/rates.csv");
+        fxRateService.init();
+        AsyncCreditService memoryService = new AsyncCreditService();
+        ReflectionTestUtils.setField(memoryService, "ledgerStore", memoryStore);
+        ReflectionTestUtils.setField(memoryService, "fxRateService", fxRateService);
+        memoryService.start();
+        List<String> trackingIds = new ArrayList<>();
+
+        // Act
+        try {
+            for (int i = 1; i <= 20; i++) {
+                trackingIds.add(memoryService.submit(request("MEM-1", i)).orElseThrow());
+            }
+            awaitCompletion(memoryService, trackingIds);
+        } finally {
+            memoryService.stop();
+        }
+
+        // Assert
+        assertThat(trackingIds).allSatisfy(id ->
+            assertThat(memoryService.status(id).orElseThrow().getState()).isEqualTo(CreditStatus.State.APPLIED));
+        assertThat(memoryStore.balance("MEM-1")).isEqualByComparingTo("210");
+        assertThat(memoryStore.entries("MEM-1")).extracting(LedgerEntry::getAmount).isSorted();
+    }
+
+    private List<BigDecimal> amountsInJournalOrder(String accountNumber) {
+        return journalRepository.findAll(Sort.by("id")).stream()
+            .filter(j -> j.getAccount().getId().equals(accountRepository.findByAccountNumber(accountNumber).orElseThrow().getId()))
+            .map(AccountingJournal::getAmount)
+            .collect(Collectors.toList());
+    }
+
+    private void awaitCompletion(List<String> trackingIds) throws InterruptedException {
+        awaitCompletion(asyncCreditService, trackingIds);
+    }
+
+    private static void awaitCompletion(AsyncCreditService service, List<String> trackingIds) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            boolean pending = trackingIds.stream().anyMatch(id ->
+                service.status(id).orElseThrow().getState() == CreditStatus.State.PENDING);
+            if (!pending) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private static TransactionRequest request(String accountNumber, int amount) {
+        TransactionRequest request = new TransactionRequest();
+        request.setAccountNumber(accountNumber);
+        request.setAmount(BigDecimal.valueOf(amount));
+        return request;
+    }
+}
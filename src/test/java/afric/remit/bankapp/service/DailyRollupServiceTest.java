@@ -0,0 +1,254 @@
+package afric.remit.bankapp.service;
+
+import afric.remit.bankapp.dto.ActivitySummary;
+import afric.remit.bankapp.dto.PeriodTotal;
+import afric.remit.bankapp.dto.RollupRebuildReport;
+import afric.remit.bankapp.dto.TransactionRequest;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.AccountClass;
+import afric.remit.bankapp.model.AccountingJournal;
+import afric.remit.bankapp.model.AccrualKind;
+import afric.remit.bankapp.model.RollupGranularity;
+import afric.remit.bankapp.model.TransactionType;
+import afric.remit.bankapp.model.User;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.AccountingJournalRepository;
+import afric.remit.bankapp.repository.AccrualChunkRepository;
+import afric.remit.bankapp.repository.BalanceBucketRepository;
+import afric.remit.bankapp.repository.DailyRollupRepository;
+import afric.remit.bankapp.repository.LedgerOutboxRepository;
+import afric.remit.bankapp.repository.UserRepository;
+import afric.remit.bankapp.service.concurrency.ConcurrencyMetrics;
+import afric.remit.bankapp.service.concurrency.ConcurrencyPolicy;
+import afric.remit.bankapp.service.concurrency.OptimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.concurrency.PessimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.fx.FxRateService;
+import afric.remit.bankapp.service.ledger.JpaLedgerStore;
+import afric.remit.bankapp.service.velocity.VelocityService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {"hot-accounts.sweep-interval-ms=3600000", "rollups.rebuild-chunk-size=2",
+    "rollups.max-range-days=400"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AccountService.class, HotAccountService.class, ConcurrencyPolicy.class, ConcurrencyMetrics.class,
+    OptimisticBalanceUpdateStrategy.class, PessimisticBalanceUpdateStrategy.class, JournalRecorder.class,
+    DailyRollupService.class, RollupRebuildService.class, AccrualService.class, FxRateService.class, VelocityService.class, JpaLedgerStore.class})
+class DailyRollupServiceTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private HotAccountService hotAccountService;
+
+    @Autowired
+    private DailyRollupService dailyRollupService;
+
+    @Autowired
+    private RollupRebuildService rollupRebuildService;
+
+    @Autowired
+    private AccrualService accrualService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountingJournalRepository journalRepository;
+
+    @Autowired
+    private DailyRollupRepository rollupRepository;
+
+    @Autowired
+    private LedgerOutboxRepository outboxRepository;
+
+    @Autowired
+    private BalanceBucketRepository bucketRepository;
+
+    @Autowired
+    private AccrualChunkRepository chunkRepository;
+
+    private User user;
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("roller", "password", "roller@example.com"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        chunkRepository.deleteAll();
+        rollupRepository.deleteAll();
+        outboxRepository.deleteAll();
+        bucketRepository.deleteAll();
+        journalRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void summary_ShouldReflectPostingsMadeThroughAccountService() {
+        // Arrange
+        accountRepository.save(new Account("ROLL-1", new BigDecimal("100.00"), user));
+
+        // Act
+        accountService.credit(request("ROLL-1", "40.00"));
+        accountService.credit(request("ROLL-1", "2.50"));
+        accountService.debit(request("ROLL-1", "10.00"));
+        ActivitySummary summary = dailyRollupService.summary("ROLL-1", today.minusDays(6), today, RollupGranularity.DAY);
+
+        // Assert
+        assertThat(summary.getPeriods()).hasSize(1);
+        PeriodTotal day = summary.getPeriods().get(0);
+        assertThat(day.getPeriod()).isEqualTo(today.toString());
+        assertThat(day.getCredits()).isEqualByComparingTo("42.50");
+        assertThat(day.getCreditCount()).isEqualTo(2);
+        assertThat(day.getDebits()).isEqualByComparingTo("10.00");
+        assertThat(day.getDebitCount()).isEqualTo(1);
+        assertThat(rollupRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void summary_WhenConcurrentCreditsToHotAndPlainAccounts_ShouldStayExact() throws Exception {
+        // Arrange
+        Account plain = new Account("ROLL-PLAIN", BigDecimal.ZERO, user);
+        plain.setAccountClass(AccountClass.MERCHANT);
+        accountRepository.save(plain);
+        accountRepository.save(new Account("ROLL-HOT", BigDecimal.ZERO, user));
+        hotAccountService.enable("ROLL-HOT", 4);
+        ExecutorService pool = Executors.newFixedThreadPool(6);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 60; i++) {
+            String accountNumber = i % 2 == 0 ? "ROLL-PLAIN" : "ROLL-HOT";
+            futures.add(pool.submit(() -> accountService.credit(request(accountNumber, "1.25"))));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+
+        // Assert
+        for (String accountNumber : List.of("ROLL-PLAIN", "ROLL-HOT")) {
+            PeriodTotal day = dailyRollupService.summary(accountNumber, today, today, RollupGranularity.DAY)
+                .getPeriods().get(0);
+            assertThat(day.getCredits()).isEqualByComparingTo("37.50");
+            assertThat(day.getCreditCount()).isEqualTo(30);
+        }
+    }
+
+    @Test
+    void rebuild_ShouldRecomputeRollupsFromJournalHistory() {
+        // Arrange
+        List<Account> accounts = new ArrayList<>();
+        for (int a = 0; a < 5; a++) {
+            accounts.add(accountRepository.save(new Account("ROLL-H" + a, BigDecimal.ZERO, user)));
+        }
+        LocalDateTime start = today.minusMonths(2).withDayOfMonth(1).atTime(9, 30);
+        for (Account account : accounts) {
+            for (int d = 0; d < 60; d += 3) {
+                journalRepository.save(new AccountingJournal(new BigDecimal("5.00"), start.plusDays(d),
+                    TransactionType.CREDIT, account));
+                journalRepository.save(new AccountingJournal(new BigDecimal("1.00"), start.plusDays(d).plusHours(5),
+                    TransactionType.DEBIT, account));
+            }
+        }
+
+        // Act
+        RollupRebuildReport report = rollupRebuildService.rebuild();
+        ActivitySummary monthly = dailyRollupService.summary("ROLL-H3", start.toLocalDate(), today,
+            RollupGranularity.MONTH);
+
+        // Assert
+        assertThat(report.getChunksProcessed()).isEqualTo(3);
+        assertThat(report.getChunksFailed()).isZero();
+        assertThat(report.getRowsWritten()).isEqualTo(5 * 20 * 2);
+        PeriodTotal firstMonth = monthly.getPeriods().get(0);
+        int daysInFirstMonth = YearMonth.from(start).lengthOfMonth();
+        long entriesInFirstMonth = (daysInFirstMonth + 2) / 3;
+        assertThat(firstMonth.getPeriod()).isEqualTo(YearMonth.from(start).toString());
+        assertThat(firstMonth.getCreditCount()).isEqualTo(entriesInFirstMonth);
+        assertThat(firstMonth.getCredits()).isEqualByComparingTo(new BigDecimal("5.00").multiply(BigDecimal.valueOf(entriesInFirstMonth)));
+        long credits = 0;
+        for (PeriodTotal month : monthly.getPeriods()) {
+            credits += month.getCreditCount();
+        }
+        assertThat(credits).isEqualTo(20);
+    }
+
+    @Test
+    void rebuild_WhenRollupsAlreadyCurrent_ShouldProduceSameTotals() {
+        // Arrange
+        accountRepository.save(new Account("ROLL-2", new BigDecimal("100.00"), user));
+        hotAccountService.enable("ROLL-2", 3);
+        for (int i = 0; i < 9; i++) {
+            accountService.credit(request("ROLL-2", "3.00"));
+        }
+        accountService.debit(request("ROLL-2", "2.00"));
+        ActivitySummary before = dailyRollupService.summary("ROLL-2", today, today, RollupGranularity.DAY);
+
+        // Act
+        rollupRebuildService.rebuild();
+
+        // Assert
+        assertThat(dailyRollupService.summary("ROLL-2", today, today, RollupGranularity.DAY)).isEqualTo(before);
+        assertThat(rollupRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void accrual_ShouldAddPostedInterestToRollups() {
+        // Arrange
+        accountRepository.save(new Account("ROLL-3", new BigDecimal("1200.00"), user));
+
+        // Act
+        accrualService.run(AccrualKind.INTEREST, YearMonth.now());
+
+        // Assert
+        PeriodTotal day = dailyRollupService.summary("ROLL-3", today, today, RollupGranularity.DAY).getPeriods().get(0);
+        assertThat(day.getCredits()).isEqualByComparingTo("2.00");
+        assertThat(day.getCreditCount()).isEqualTo(1);
+    }
+
+    @Test
+    void summary_WhenRangeTooLong_ShouldReject() {
+        // Arrange
+        accountRepository.save(new Account("ROLL-4", BigDecimal.ZERO, user));
+
+        // Act & Assert
+        assertThatThrownBy(() -> dailyRollupService.summary("ROLL-4", today.minusDays(400), today, RollupGranularity.DAY))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Summary range is limited to 400 days");
+    }
+
+    private static TransactionRequest request(String accountNumber, String amount) {
+        TransactionRequest request = new TransactionRequest();
+        request.setAccountNumber(accountNumber);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+}
@@ -0,0 +1,261 @@
+package afric.remit.bankapp.service;
+
+import afric.remit.bankapp.dto.TransactionRequest;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.AccrualKind;
+import afric.remit.bankapp.model.TransactionType;
+import afric.remit.bankapp.model.User;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.AccountingJournalRepository;
+import afric.remit.bankapp.repository.AccrualChunkRepository;
+import afric.remit.bankapp.repository.BalanceBucketRepository;
+import afric.remit.bankapp.repository.DailyRollupRepository;
+import afric.remit.bankapp.repository.LedgerOutboxRepository;
+import afric.remit.bankapp.repository.UserRepository;
+import afric.remit.bankapp.service.concurrency.ConcurrencyMetrics;
+import afric.remit.bankapp.service.concurrency.ConcurrencyPolicy;
+import afric.remit.bankapp.service.concurrency.OptimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.concurrency.PessimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.fx.FxRateService;
+import afric.remit.bankapp.service.ledger.JpaLedgerStore;
+import afric.remit.bankapp.service.velocity.VelocityService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "hot-accounts.sweep-interval-ms=3600000")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AccountService.class, HotAccountService.class, ConcurrencyPolicy.class, ConcurrencyMetrics.class,
+    OptimisticBalanceUpdateStrategy.class, PessimisticBalanceUpdateStrategy.class,
+    JournalRecorder.class, DailyRollupService.class, FxRateService.class, VelocityService.class, JpaLedgerStore.class,
+    AccrualService.class})
+class HotAccountServiceTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private HotAccountService hotAccountService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountingJournalRepository journalRepository;
+
+    @Autowired
+    private BalanceBucketRepository bucketRepository;
+
+    @Autowired
+    private AccrualService accrualService;
+
+    @Autowired
+    private AccrualChunkRepository chunkRepository;
+
+    @Autowired
+    private DailyRollupRepository rollupRepository;
+
+    @Autowired
+    private LedgerOutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("merchant", "password", "merchant@example.com"));
+        account = accountRepository.save(new Account("HOT-1", new BigDecimal("100.00"), user));
+        hotAccountService.enable("HOT-1", 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        chunkRepository.deleteAll();
+        rollupRepository.deleteAll();
+        outboxRepository.deleteAll();
+        bucketRepository.deleteAll();
+        journalRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void credit_WhenConcurrent_ShouldKeepTotalExactAndLeaveAccountRowUntouched() throws Exception {
+        // Arrange
+        ExecutorService pool = Executors.newFixedThreadPool(6);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 120; i++) {
+            futures.add(pool.submit(() -> accountService.credit(request("HOT-1", "1.00"))));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+
+        // Assert
+        assertThat(hotAccountService.balance(account.getId())).isEqualByComparingTo("220.00");
+        assertThat(accountRepository.findById(account.getId()).orElseThrow().getBalance()).isEqualByComparingTo("100.00");
+        assertThat(journalRepository.count()).isEqualTo(120);
+    }
+
+    @Test
+    void sweep_ShouldMoveSlotBalancesOntoAccountRow() {
+        // Arrange
+        creditSlots("5.00");
+
+        // Act
+        hotAccountService.sweep();
+
+        // Assert
+        assertThat(accountRepository.findById(account.getId()).orElseThrow().getBalance()).isEqualByComparingTo("120.00");
+        assertThat(bucketRepository.sumByAccountId(account.getId())).isEqualByComparingTo("0");
+        assertThat(hotAccountService.balance(account.getId())).isEqualByComparingTo("120.00");
+    }
+
+    @Test
+    void debit_WhenNoSingleSlotCovers_ShouldConsolidateAndDebit() {
+        // Arrange
+        creditSlots("10.00");
+
+        // Act
+        accountService.debit(request("HOT-1", "130.00"));
+
+        // Assert
+        assertThat(hotAccountService.balance(account.getId())).isEqualByComparingTo("10.00");
+        assertThat(bucketRepository.sumByAccountId(account.getId())).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void debit_WhenSlotCovers_ShouldDrawFromSlot() {
+        // Arrange
+        creditSlots("10.00");
+
+        // Act
+        accountService.debit(request("HOT-1", "7.00"));
+
+        // Assert
+        assertThat(bucketRepository.sumByAccountId(account.getId())).isEqualByComparingTo("33.00");
+        assertThat(hotAccountService.balance(account.getId())).isEqualByComparingTo("133.00");
+    }
+
+    @Test
+    void debit_WhenTotalInsufficient_ShouldRejectAndKeepBalance() {
+        // Arrange
+        creditSlots("10.00");
+
+        // Act & Assert
+        assertThatThrownBy(() -> accountService.debit(request("HOT-1", "500.00")))
+            .hasMessage("Insufficient funds");
+        assertThat(hotAccountService.balance(account.getId())).isEqualByComparingTo("140.00");
+        assertThat(journalRepository.count()).isZero();
+    }
+
+    @Test
+    void disable_ShouldFoldSlotsBackIntoBalance() {
+        // Arrange
+        creditSlots("2.50");
+
+        // Act
+        hotAccountService.disable("HOT-1");
+
+        // Assert
+        Account reloaded = accountRepository.findById(account.getId()).orElseThrow();
+        assertThat(reloaded.getBalanceBuckets()).isZero();
+        assertThat(reloaded.getBalance()).isEqualByComparingTo("110.00");
+        assertThat(bucketRepository.count()).isZero();
+    }
+
+    @Test
+    void credit_WhenRoutingCopyPredatesReconfiguration_ShouldUseCurrentSlots() {
+        // Arrange
+        hotAccountService.enable("HOT-1", 8);
+        Account stale = accountRepository.findById(account.getId()).orElseThrow();
+        hotAccountService.enable("HOT-1", 2);
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            hotAccountService.credit(stale, new BigDecimal("1.00"));
+        }
+
+        // Assert
+        assertThat(bucketRepository.sumByAccountId(account.getId())).isEqualByComparingTo("20.00");
+        assertThat(hotAccountService.balance(account.getId())).isEqualByComparingTo("120.00");
+    }
+
+    @Test
+    void credit_WhenAccountDisabledSinceRouting_ShouldCreditAccountRow() {
+        // Arrange
+        Account stale = accountRepository.findById(account.getId()).orElseThrow();
+        hotAccountService.disable("HOT-1");
+
+        // Act
+        hotAccountService.credit(stale, new BigDecimal("5.00"));
+
+        // Assert
+        assertThat(accountRepository.findById(account.getId()).orElseThrow().getBalance()).isEqualByComparingTo("105.00");
+        assertThat(bucketRepository.count()).isZero();
+    }
+
+    @Test
+    void accrueFee_WhenFundsSitInSlots_ShouldChargeFeeAgainstTotal() {
+        // Arrange
+        hotAccountService.disable("HOT-1");
+        Account hot = accountRepository.findById(account.getId()).orElseThrow();
+        hot.setBalance(new BigDecimal("0.40"));
+        accountRepository.save(hot);
+        hotAccountService.enable("HOT-1", 4);
+        creditSlots("5.00");
+
+        // Act
+        accrualService.run(AccrualKind.FEE, YearMonth.of(2026, 10));
+
+        // Assert
+        assertThat(hotAccountService.balance(account.getId())).isEqualByComparingTo("19.40");
+        assertThat(bucketRepository.sumByAccountId(account.getId())).isEqualByComparingTo("0");
+        assertThat(journalRepository.findAll())
+            .anySatisfy(entry -> {
+                assertThat(entry.getType()).isEqualTo(TransactionType.DEBIT);
+                assertThat(entry.getAmount()).isEqualByComparingTo("1.00");
+            });
+    }
+
+    private void creditSlots(String amount) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int slot = 0; slot < 4; slot++) {
+                bucketRepository.credit(account.getId(), slot, new BigDecimal(amount));
+            }
+        });
+    }
+
+    private static TransactionRequest request(String accountNumber, String amount) {
+        TransactionRequest request = new TransactionRequest();
+        request.setAccountNumber(accountNumber);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+}
@@ -0,0 +1,239 @@
+package afric.remit.bankapp.service;
+
+import afric.remit.bankapp.dto.ImportReport;
+import afric.remit.bankapp.dto.ReconciliationReport;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.ImportCheckpoint;
+import afric.remit.bankapp.model.ImportFormat;
+import afric.remit.bankapp.model.User;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.AccountingJournalRepository;
+import afric.remit.bankapp.repository.DailyRollupRepository;
+import afric.remit.bankapp.repository.ImportCheckpointRepository;
+import afric.remit.bankapp.repository.LedgerOutboxRepository;
+import afric.remit.bankapp.repository.UserRepository;
+import afric.remit.bankapp.service.fx.FxRateService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {"imports.batch-size=2", "imports.max-pending-batches=1", "imports.hash-parallelism=2",
+    "fx.base-currency=EUR"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ImportService.class, BCryptPasswordEncoder.class, DailyRollupService.class, ReconciliationService.class,
+    FxRateService.class, AccountNumberAllocator.class})
+class ImportServiceTest {
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private ImportCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private AccountingJournalRepository journalRepository;
+
+    @Autowired
+    private LedgerOutboxRepository outboxRepository;
+
+    @Autowired
+    private DailyRollupRepository rollupRepository;
+
+    @Autowired
+    private ReconciliationService reconciliationService;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(importService, "directory", tempDir.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        checkpointRepository.deleteAll();
+        outboxRepository.deleteAll();
+        rollupRepository.deleteAll();
+        journalRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void run_WhenCsvIsValid_ShouldImportUsersAndAccountsWithHashedPasswords() throws Exception {
+        // Arrange
+        store("partner", ImportFormat.CSV,
+            "username,password,email,accountNumber,balance",
+            "alice,secret1,alice@example.com,IMP-1,10.50",
+            "bob,secret2,bob@example.com,IMP-2,",
+            "carol,secret3,carol@example.com,,",
+            "alice,,,IMP-3,5.00");
+
+        // Act
+        ImportReport report = importService.run("partner", ImportFormat.CSV);
+
+        // Assert
+        assertThat(report.getRowsProcessed()).isEqualTo(4);
+        assertThat(report.getUsersImported()).isEqualTo(3);
+        assertThat(report.getAccountsImported()).isEqualTo(3);
+        assertThat(report.getRowsFailed()).isZero();
+        User alice = userRepository.findByUsername("alice").orElseThrow();
+        assertThat(passwordEncoder.matches("secret1", alice.getPassword())).isTrue();
+        assertThat(accountRepository.findBalancesByUsername("alice")).extracting("accountNumber")
+            .containsExactly("IMP-1", "IMP-3");
+        assertThat(accountRepository.findByAccountNumber("IMP-1").orElseThrow().getBalance())
+            .isEqualByComparingTo("10.50");
+        assertThat(accountRepository.findByAccountNumber("IMP-1").orElseThrow().getCurrency()).isEqualTo("EUR");
+    }
+
+    @Test
+    void run_WhenAccountsHaveOpeningBalances_ShouldPostThemSoReconciliationIsClean() throws Exception {
+        // Arrange
+        store("opening", ImportFormat.CSV,
+            "username,password,email,accountNumber,balance",
+            "mia,pw,mia@example.com,IMP-40,25.00",
+            "nia,pw,nia@example.com,IMP-41,",
+            "mia,,,IMP-42,4.75");
+
+        // Act
+        importService.run("opening", ImportFormat.CSV);
+
+        // Assert
+        assertThat(journalRepository.count()).isEqualTo(2);
+        assertThat(outboxRepository.count()).isEqualTo(2);
+        assertThat(rollupRepository.findAll()).extracting("total", BigDecimal.class)
+            .usingElementComparator(BigDecimal::compareTo)
+            .containsExactlyInAnyOrder(new BigDecimal("25.00"), new BigDecimal("4.75"));
+        ReconciliationReport report = reconciliationService.reconcile();
+        assertThat(report.getAccountsChecked()).isEqualTo(3);
+        assertThat(report.getDiscrepancyCount()).isZero();
+    }
+
+    @Test
+    void run_WhenRowsAreInvalidOrDuplicate_ShouldWriteThemToErrorFileWithLineNumbers() throws Exception {
+        // Arrange
+        User existing = userRepository.save(new User("taken", "hash", "taken@example.com"));
+        accountRepository.save(new Account("IMP-TAKEN", BigDecimal.ZERO, existing));
+        store("dupes", ImportFormat.CSV,
+            "username,password,email,accountNumber,balance",
+            "taken,pw,taken2@example.com,,",
+            "dave,pw,dave@example.com,IMP-TAKEN,",
+            "erin,pw,erin@example.com,IMP-10,",
+            "erin,pw,erin@example.com,IMP-11,",
+            "frank,pw,frank@example.com,IMP-12,-1",
+            "not,a,valid,row,at,all",
+            "ghost,,,IMP-13,");
+
+        // Act
+        ImportReport report = importService.run("dupes", ImportFormat.CSV);
+
+        // Assert
+        assertThat(report.getUsersImported()).isEqualTo(1);
+        assertThat(report.getRowsFailed()).isEqualTo(6);
+        List<String> errors = Files.readAllLines(Path.of(report.getErrorFile()));
+        assertThat(errors).containsExactly(
+            "2,\"Username already exists\",\"taken,pw,taken2@example.com,,\"",
+            "3,\"Account number already exists\",\"dave,pw,dave@example.com,IMP-TAKEN,\"",
+            "5,\"Username already exists\",\"erin,pw,erin@example.com,IMP-11,\"",
+            "6,\"Invalid balance\",\"frank,pw,frank@example.com,IMP-12,-1\"",
+            "7,\"Malformed row\",\"not,a,valid,row,at,all\"",
+            "8,\"User not found\",\"ghost,,,IMP-13,\"");
+        assertThat(userRepository.findByUsername("dave")).isEmpty();
+    }
+
+    @Test
+    void run_WhenAccountNumberIsInAllocatedRange_ShouldRejectRow() throws Exception {
+        // Arrange
+        store("allocated", ImportFormat.CSV,
+            "username,password,email,accountNumber,balance",
+            "olga,pw,olga@example.com,400000000019,",
+            "pete,pw,pete@example.com,40000000001,",
+            "quinn,pw,quinn@example.com,40-000000019,");
+
+        // Act
+        ImportReport report = importService.run("allocated", ImportFormat.CSV);
+
+        // Assert
+        assertThat(report.getAccountsImported()).isEqualTo(2);
+        assertThat(Files.readAllLines(Path.of(report.getErrorFile()))).containsExactly(
+            "2,\"Account number is in the allocated range\",\"olga,pw,olga@example.com,400000000019,\"");
+        assertThat(accountRepository.findByAccountNumber("400000000019")).isEmpty();
+    }
+
+    @Test
+    void run_WhenNdjson_ShouldImportRows() throws Exception {
+        // Arrange
+        store("partner-json", ImportFormat.NDJSON,
+            "{\"username\":\"heidi\",\"password\":\"pw\",\"email\":\"heidi@example.com\",\"accountNumber\":\"IMP-20\",\"balance\":7}",
+            "",
+            "{\"username\":\"ivan\",\"password\":\"pw\",\"email\":\"ivan@example.com\"}");
+
+        // Act
+        ImportReport report = importService.run("partner-json", ImportFormat.NDJSON);
+
+        // Assert
+        assertThat(report.getUsersImported()).isEqualTo(2);
+        assertThat(report.getAccountsImported()).isEqualTo(1);
+        assertThat(accountRepository.findByAccountNumber("IMP-20").orElseThrow().getBalance())
+            .isEqualByComparingTo("7");
+    }
+
+    @Test
+    void run_WhenCheckpointExists_ShouldResumeAfterLastCommittedLine() throws Exception {
+        // Arrange
+        store("resumed", ImportFormat.CSV,
+            "username,password,email,accountNumber,balance",
+            "judy,pw,judy@example.com,IMP-30,",
+            "ken,pw,ken@example.com,IMP-31,",
+            "leo,pw,leo@example.com,IMP-32,");
+        ImportCheckpoint checkpoint = new ImportCheckpoint("resumed");
+        checkpoint.setLinesCommitted(3);
+        checkpointRepository.save(checkpoint);
+
+        // Act
+        ImportReport report = importService.run("resumed", ImportFormat.CSV);
+
+        // Assert
+        assertThat(report.getResumedFromLine()).isEqualTo(3);
+        assertThat(report.getRowsProcessed()).isEqualTo(1);
+        assertThat(userRepository.findByUsername("judy")).isEmpty();
+        assertThat(userRepository.findByUsername("leo")).isPresent();
+        assertThat(checkpointRepository.findById("resumed").orElseThrow().getLinesCommitted()).isEqualTo(4);
+        assertThatThrownBy(() -> importService.store("resumed", ImportFormat.CSV,
+            new ByteArrayInputStream(new byte[0]))).hasMessage("Import already started");
+    }
+
+    private void store(String name, ImportFormat format, String... lines) throws Exception {
+        importService.store(name, format,
+            new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8)));
+    }
+}
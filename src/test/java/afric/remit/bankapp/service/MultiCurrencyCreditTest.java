@@ -0,0 +1,165 @@
+package afric.remit.bankapp.service;
+
+import afric.remit.bankapp.dto.TransactionRequest;
+import afric.remit.bankapp.model.AccountingJournal;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.TransactionType;
+import afric.remit.bankapp.model.User;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.AccountingJournalRepository;
+import afric.remit.bankapp.repository.BalanceBucketRepository;
+import afric.remit.bankapp.repository.LedgerOutboxRepository;
+import afric.remit.bankapp.repository.UserRepository;
+import afric.remit.bankapp.service.concurrency.ConcurrencyMetrics;
+import afric.remit.bankapp.service.concurrency.ConcurrencyPolicy;
+import afric.remit.bankapp.service.concurrency.OptimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.concurrency.PessimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.fx.FxRateService;
+import afric.remit.bankapp.service.ledger.JpaLedgerStore;
+import afric.remit.bankapp.service.velocity.VelocityService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {"fx.rates-file=src/test/resources/fx/rates.csv", "hot-accounts.sweep-interval-ms=3600000"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AccountService.class, HotAccountService.class, ConcurrencyPolicy.class, ConcurrencyMetrics.class,
+    OptimisticBalanceUpdateStrategy.class, PessimisticBalanceUpdateStrategy.class,
+    JournalRecorder.class, DailyRollupService.class, FxRateService.class, VelocityService.class, JpaLedgerStore.class})
+class MultiCurrencyCreditTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private HotAccountService hotAccountService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountingJournalRepository journalRepository;
+
+    @Autowired
+    private LedgerOutboxRepository outboxRepository;
+
+    @Autowired
+    private BalanceBucketRepository bucketRepository;
+
+    private Account shilling;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("sender", "password", "sender@example.com"));
+        shilling = accountRepository.save(new Account("FX-KES", new BigDecimal("100.00"), "KES", user));
+        accountRepository.save(new Account("FX-USD", new BigDecimal("100.00"), user));
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+        bucketRepository.deleteAll();
+        journalRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void credit_WhenRequestInOtherCurrency_ShouldConvertAndJournalBothSides() {
+        // Act
+        accountService.credit(request("FX-KES", "10.00", "EUR"));
+
+        // Assert
+        assertThat(accountRepository.findById(shilling.getId()).orElseThrow().getBalance()).isEqualByComparingTo("1700.00");
+        List<AccountingJournal> journal = journalRepository.findAll();
+        assertThat(journal).hasSize(1);
+        assertThat(journal.get(0).getAmount()).isEqualByComparingTo("1600.00");
+        assertThat(journal.get(0).getCurrency()).isEqualTo("KES");
+        assertThat(journal.get(0).getSourceAmount()).isEqualByComparingTo("10.00");
+        assertThat(journal.get(0).getSourceCurrency()).isEqualTo("EUR");
+        assertThat(journal.get(0).getFxRate()).isEqualByComparingTo("160");
+    }
+
+    @Test
+    void journal_ShouldStoreFxRateWithAllItsSignificantDigits() {
+        // Arrange
+        BigDecimal rate = BigDecimal.ONE.divide(new BigDecimal("810000"), MathContext.DECIMAL64);
+        AccountingJournal entry = new AccountingJournal(new BigDecimal("1.00"), LocalDateTime.now(),
+            TransactionType.CREDIT, shilling);
+        entry.setSourceAmount(new BigDecimal("810000.00"));
+        entry.setSourceCurrency("XYZ");
+        entry.setFxRate(rate);
+
+        // Act
+        Long id = journalRepository.save(entry).getId();
+
+        // Assert
+        assertThat(journalRepository.findById(id).orElseThrow().getFxRate()).isEqualByComparingTo(rate);
+    }
+
+    @Test
+    void credit_WhenNoCurrencyGiven_ShouldCreditInAccountCurrency() {
+        // Act
+        accountService.credit(request("FX-USD", "5.00", null));
+
+        // Assert
+        AccountingJournal entry = journalRepository.findAll().get(0);
+        assertThat(entry.getCurrency()).isEqualTo("USD");
+        assertThat(entry.getSourceCurrency()).isNull();
+        assertThat(entry.getFxRate()).isNull();
+    }
+
+    @Test
+    void credit_WhenHotAccount_ShouldCreditConvertedAmountToSlot() {
+        // Arrange
+        hotAccountService.enable("FX-KES", 2);
+
+        // Act
+        accountService.credit(request("FX-KES", "1.00", "USD"));
+
+        // Assert
+        assertThat(hotAccountService.balance(shilling.getId())).isEqualByComparingTo("228.00");
+        assertThat(journalRepository.findAll().get(0).getSourceCurrency()).isEqualTo("USD");
+    }
+
+    @Test
+    void credit_WhenCurrencyNotQuoted_ShouldRejectAndKeepBalance() {
+        // Act & Assert
+        assertThatThrownBy(() -> accountService.credit(request("FX-KES", "10.00", "GBP")))
+            .hasMessage("Unsupported currency GBP");
+        assertThat(accountRepository.findById(shilling.getId()).orElseThrow().getBalance()).isEqualByComparingTo("100.00");
+        assertThat(journalRepository.count()).isZero();
+    }
+
+    @Test
+    void debit_WhenCurrencyDiffersFromAccount_ShouldReject() {
+        // Act & Assert
+        assertThatThrownBy(() -> accountService.debit(request("FX-KES", "10.00", "USD")))
+            .hasMessage("Currency mismatch");
+        assertThat(journalRepository.count()).isZero();
+    }
+
+    private static TransactionRequest request(String accountNumber, String amount, String currency) {
+        TransactionRequest request = new TransactionRequest();
+        request.setAccountNumber(accountNumber);
+        request.setAmount(new BigDecimal(amount));
+        request.setCurrency(currency);
+        return request;
+    }
+}
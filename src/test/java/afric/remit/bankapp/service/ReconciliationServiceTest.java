@@ -0,0 +1,169 @@
+package afric.remit.bankapp.service;
+
+import afric.remit.bankapp.dto.Discrepancy;
+import afric.remit.bankapp.dto.ReconciliationReport;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.AccountingJournalRepository;
+import afric.remit.bankapp.repository.projection.AccountBalanceView;
+import afric.remit.bankapp.repository.projection.IdRange;
+import afric.remit.bankapp.repository.projection.JournalTotalView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReconciliationServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountingJournalRepository journalRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ReconciliationService reconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reconciliationService, "chunkSize", 10L);
+        ReflectionTestUtils.setField(reconciliationService, "parallelism", 2);
+    }
+
+    @Test
+    void reconcile_WhenBalancesMatchJournal_ShouldReportNoDiscrepancies() {
+        // Arrange
+        when(accountRepository.findIdRange()).thenReturn(idRange(1, 100));
+        when(accountRepository.findBalancesInRange(anyLong(), anyLong())).thenAnswer(inv ->
+            accounts(inv.getArgument(0), inv.getArgument(1), -1));
+        when(journalRepository.sumNetAmountsInRange(anyLong(), anyLong())).thenAnswer(inv ->
+            totals(inv.getArgument(0), inv.getArgument(1)));
+
+        // Act
+        ReconciliationReport report = reconciliationService.reconcile();
+
+        // Assert
+        assertThat(report.getAccountsChecked()).isEqualTo(100);
+        assertThat(report.getChunksProcessed()).isGreaterThan(1);
+        assertThat(report.getDiscrepancies()).isEmpty();
+    }
+
+    @Test
+    void reconcile_WhenBalanceDrifted_ShouldReportDifference() {
+        // Arrange
+        when(accountRepository.findIdRange()).thenReturn(idRange(1, 100));
+        when(accountRepository.findBalancesInRange(anyLong(), anyLong())).thenAnswer(inv ->
+            accounts(inv.getArgument(0), inv.getArgument(1), 42));
+        when(journalRepository.sumNetAmountsInRange(anyLong(), anyLong())).thenAnswer(inv ->
+            totals(inv.getArgument(0), inv.getArgument(1)));
+
+        // Act
+        ReconciliationReport report = reconciliationService.reconcile();
+
+        // Assert
+        assertThat(report.getDiscrepancies()).hasSize(1);
+        Discrepancy discrepancy = report.getDiscrepancies().get(0);
+        assertThat(discrepancy.getAccountId()).isEqualTo(42L);
+        assertThat(discrepancy.getDifference()).isEqualByComparingTo("1.00");
+    }
+
+    @Test
+    void reconcile_WhenManyDiscrepancies_ShouldCapListAndReportTotal() {
+        // Arrange
+        ReflectionTestUtils.setField(reconciliationService, "maxDiscrepancies", 5);
+        when(accountRepository.findIdRange()).thenReturn(idRange(1, 100));
+        when(accountRepository.findBalancesInRange(anyLong(), anyLong())).thenAnswer(inv ->
+            accounts(inv.getArgument(0), inv.getArgument(1), -1));
+        when(journalRepository.sumNetAmountsInRange(anyLong(), anyLong())).thenReturn(new ArrayList<>());
+
+        // Act
+        ReconciliationReport report = reconciliationService.reconcile();
+
+        // Assert
+        assertThat(report.getDiscrepancyCount()).isEqualTo(100);
+        assertThat(report.getDiscrepancies()).hasSize(5);
+    }
+
+    @Test
+    void reconcile_ShouldReadEachChunkFromOneRepeatableReadSnapshot() {
+        // Arrange
+        when(accountRepository.findIdRange()).thenReturn(idRange(1, 5));
+        when(accountRepository.findBalancesInRange(anyLong(), anyLong())).thenAnswer(inv ->
+            accounts(inv.getArgument(0), inv.getArgument(1), -1));
+        when(journalRepository.sumNetAmountsInRange(anyLong(), anyLong())).thenAnswer(inv ->
+            totals(inv.getArgument(0), inv.getArgument(1)));
+
+        // Act
+        reconciliationService.reconcile();
+
+        // Assert
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().getIsolationLevel()).isEqualTo(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        assertThat(definition.getValue().isReadOnly()).isTrue();
+    }
+
+    @Test
+    void reconcile_WhenNoAccounts_ShouldReturnEmptyReport() {
+        // Arrange
+        when(accountRepository.findIdRange()).thenReturn(idRange(null, null));
+
+        // Act
+        ReconciliationReport report = reconciliationService.reconcile();
+
+        // Assert
+        assertThat(report.getAccountsChecked()).isZero();
+        verify(journalRepository, never()).sumNetAmountsInRange(anyLong(), anyLong());
+    }
+
+    private static IdRange idRange(Integer min, Integer max) {
+        return new IdRange() {
+            public Long getMinId() { return min == null ? null : min.longValue(); }
+            public Long getMaxId() { return max == null ? null : max.longValue(); }
+        };
+    }
+
+    private static List<AccountBalanceView> accounts(long from, long to, long driftedId) {
+        List<AccountBalanceView> result = new ArrayList<>();
+        for (long id = from; id <= to; id++) {
+            BigDecimal balance = BigDecimal.valueOf(id).add(id == driftedId ? BigDecimal.ONE : BigDecimal.ZERO);
+            long accountId = id;
+            result.add(new AccountBalanceView() {
+                public Long getId() { return accountId; }
+                public String getAccountNumber() { return "ACC" + accountId; }
+                public BigDecimal getBalance() { return balance; }
+                public String getCurrency() { return "USD"; }
+            });
+        }
+        return result;
+    }
+
+    private static List<JournalTotalView> totals(long from, long to) {
+        List<JournalTotalView> result = new ArrayList<>();
+        for (long id = from; id <= to; id++) {
+            long accountId = id;
+            result.add(new JournalTotalView() {
+                public Long getAccountId() { return accountId; }
+                public BigDecimal getTotal() { return BigDecimal.valueOf(accountId); }
+            });
+        }
+        return result;
+    }
+}
@@ -0,0 +1,81 @@
+package afric.remit.bankapp.service.concurrency;
+
+import afric.remit.bankapp.dto.ConcurrencyStats;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticBalanceUpdateStrategyTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private ConcurrencyMetrics metrics = new ConcurrencyMetrics();
+
+    @InjectMocks
+    private OptimisticBalanceUpdateStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(strategy, "maxAttempts", 3);
+        ReflectionTestUtils.setField(strategy, "backoffBaseMillis", 0L);
+        Account account = new Account("123456789", new BigDecimal("100.00"), null);
+        when(accountRepository.findByAccountNumber("123456789")).thenReturn(Optional.of(account));
+    }
+
+    @Test
+    void update_WhenConflictThenSuccess_ShouldRetryAndCommit() {
+        // Arrange
+        AtomicInteger invocations = new AtomicInteger();
+        when(accountRepository.saveAndFlush(any(Account.class)))
+            .thenThrow(new ObjectOptimisticLockingFailureException(Account.class, 1L))
+            .thenAnswer(inv -> inv.getArgument(0));
+
+        // Act
+        strategy.update("123456789", account -> invocations.incrementAndGet());
+
+        // Assert
+        assertThat(invocations.get()).isEqualTo(2);
+        ConcurrencyStats stats = metrics.snapshot().get(0);
+        assertThat(stats.getAttempts()).isEqualTo(2);
+        assertThat(stats.getConflicts()).isEqualTo(1);
+        assertThat(stats.getRetries()).isEqualTo(1);
+        assertThat(stats.getCommits()).isEqualTo(1);
+    }
+
+    @Test
+    void update_WhenConflictsPersist_ShouldGiveUpAfterMaxAttempts() {
+        // Arrange
+        when(accountRepository.saveAndFlush(any(Account.class)))
+            .thenThrow(new ObjectOptimisticLockingFailureException(Account.class, 1L));
+
+        // Act & Assert
+        assertThatThrownBy(() -> strategy.update("123456789", account -> { }))
+            .hasMessage("Concurrent modification detected");
+        verify(accountRepository, times(3)).saveAndFlush(any(Account.class));
+        assertThat(metrics.snapshot().get(0).getExhausted()).isEqualTo(1);
+    }
+}
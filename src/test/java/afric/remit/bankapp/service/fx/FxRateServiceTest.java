@@ -0,0 +1,138 @@
+package afric.remit.bankapp.service.fx;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FxRateServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path ratesFile;
+    private FxRateService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ratesFile = tempDir.resolve("rates.csv");
+        write("# per USD\nEUR,0.80\n\nKES,128.00\nJPY,150\n", 1);
+        service = new FxRateService();
+        ReflectionTestUtils.setField(service, "baseCurrency", "USD");
+        ReflectionTestUtils.setField(service, "ratesFile", ratesFile.toString());
+        service.init();
+    }
+
+    @Test
+    void convert_WhenCrossCurrency_ShouldRoundToTargetMinorUnits() {
+        // Act
+        FxConversion toKes = service.convert(new BigDecimal("10.00"), "EUR", "KES");
+        FxConversion toJpy = service.convert(new BigDecimal("3.33"), "USD", "JPY");
+
+        // Assert
+        assertThat(toKes.getAmount()).isEqualByComparingTo("1600.00");
+        assertThat(toKes.getAmount().scale()).isEqualTo(2);
+        assertThat(toKes.getRate()).isEqualByComparingTo("160");
+        assertThat(toKes.getSourceAmount()).isEqualByComparingTo("10.00");
+        assertThat(toKes.isCrossCurrency()).isTrue();
+        assertThat(toJpy.getAmount()).isEqualByComparingTo("500");
+        assertThat(toJpy.getAmount().scale()).isZero();
+    }
+
+    @Test
+    void convert_WhenSameOrNoCurrency_ShouldPassAmountThrough() {
+        // Act
+        FxConversion same = service.convert(new BigDecimal("12.34"), "EUR", "EUR");
+        FxConversion unspecified = service.convert(new BigDecimal("12.34"), null, "KES");
+
+        // Assert
+        assertThat(same.isCrossCurrency()).isFalse();
+        assertThat(same.getAmount()).isEqualByComparingTo("12.34");
+        assertThat(unspecified.getCurrency()).isEqualTo("KES");
+        assertThat(unspecified.isCrossCurrency()).isFalse();
+    }
+
+    @Test
+    void convert_WhenCurrencyNotQuoted_ShouldReject() {
+        // Act & Assert
+        assertThatThrownBy(() -> service.convert(BigDecimal.ONE, "GBP", "USD"))
+            .hasMessage("Unsupported currency GBP");
+        assertThatThrownBy(() -> service.convert(BigDecimal.ONE, "usd", "EUR"))
+            .hasMessage("Unsupported currency usd");
+    }
+
+    @Test
+    void refresh_WhenFileChanges_ShouldSwapInNewSnapshot() throws Exception {
+        // Arrange
+        FxRateTable before = service.current();
+        write("EUR,0.90\nGBP,0.75\n", 2);
+
+        // Act
+        service.refresh();
+
+        // Assert
+        FxRateTable after = service.current();
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(after.getCurrencies()).containsExactly("EUR", "GBP", "USD");
+        assertThat(before.rate("USD", "EUR")).isEqualTo(0.80);
+        assertThat(after.rate("USD", "EUR")).isEqualTo(0.90);
+        assertThat(before.supports("GBP")).isFalse();
+    }
+
+    @Test
+    void refresh_WhenFileUnchanged_ShouldKeepSnapshot() {
+        // Arrange
+        FxRateTable before = service.current();
+
+        // Act
+        service.refresh();
+
+        // Assert
+        assertThat(service.current()).isSameAs(before);
+    }
+
+    @Test
+    void refresh_WhenFileMalformed_ShouldKeepPreviousSnapshotAndRecordError() throws Exception {
+        // Arrange
+        FxRateTable before = service.current();
+        write("EUR,0.90\nKES,-1\n", 2);
+
+        // Act
+        service.refresh();
+
+        // Assert
+        assertThat(service.current()).isSameAs(before);
+        assertThat(service.stats().getRefreshFailures()).isEqualTo(1);
+        assertThat(service.stats().getLastError()).contains("Invalid rate -1.0 for KES");
+    }
+
+    @Test
+    void indexOf_ShouldOnlyResolveQuotedUpperCaseCodes() {
+        // Arrange
+        FxRateTable table = service.current();
+
+        // Act & Assert
+        assertThat(table.indexOf("USD")).isZero();
+        assertThat(table.indexOf("KES")).isPositive();
+        assertThat(table.indexOf("GBP")).isEqualTo(-1);
+        assertThat(table.indexOf("EU")).isEqualTo(-1);
+        assertThat(table.indexOf("E1R")).isEqualTo(-1);
+        assertThat(FxRateTable.pack("ZZZ")).isEqualTo(FxRateTable.CODE_SPACE - 1);
+    }
+
+    // Pins the modification time so successive writes are seen as changes regardless of clock granularity.
+    private void write(String content, long second) throws Exception {
+        Files.writeString(ratesFile, content);
+        Files.setLastModifiedTime(ratesFile, FileTime.from(Instant.ofEpochSecond(1_700_000_000L + second)));
+    }
+}
@@ -0,0 +1,95 @@
+package afric.remit.bankapp.service.ledger;
+
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.service.fx.FxConversion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryLedgerStoreTest extends LedgerStoreConformanceTest {
+
+    private static final long MAX_ENTRIES = (long) ReflectionTestUtils.getField(InMemoryLedgerStore.class, "MAX_ENTRIES");
+
+    private InMemoryLedgerStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryLedgerStore();
+    }
+
+    @Override
+    protected LedgerStore store() {
+        return store;
+    }
+
+    @Test
+    void open_WhenNumberInUse_ShouldNotUseUpAnId() {
+        // Arrange
+        Account first = store.open("MEM-1", BigDecimal.ZERO, "USD", null);
+        assertThatThrownBy(() -> store.open("MEM-1", BigDecimal.ONE, "USD", null))
+            .hasMessage("Account number already in use");
+
+        // Act
+        Account second = store.open("MEM-2", BigDecimal.ONE, "USD", null);
+
+        // Assert
+        assertThat(second.getId()).isEqualTo(first.getId() + 1);
+        assertThat(store.balance("MEM-1")).isEqualByComparingTo("0");
+        assertThat(store.balance("MEM-2")).isEqualByComparingTo("1.00");
+    }
+
+    @Test
+    void credit_WhenJournalIsFull_ShouldLeaveBalanceUnchanged() {
+        // Arrange
+        Account account = store.open("MEM-FULL", new BigDecimal("10.00"), "USD", null);
+        fillJournalTo(MAX_ENTRIES);
+
+        // Act & Assert
+        assertThatThrownBy(() -> store.credit(account, FxConversion.none(new BigDecimal("5.00"), "USD")))
+            .hasMessage("In-memory journal is full");
+        assertThat(store.balance("MEM-FULL")).isEqualByComparingTo("10.00");
+        assertThat(store.journalLength()).isEqualTo(MAX_ENTRIES);
+    }
+
+    @Test
+    void creditAll_WhenJournalHasRoomForOnlyPartOfBatch_ShouldPostNothing() {
+        // Arrange
+        Account first = store.open("MEM-BATCH-1", BigDecimal.ZERO, "USD", null);
+        Account second = store.open("MEM-BATCH-2", BigDecimal.ZERO, "USD", null);
+        fillJournalTo(MAX_ENTRIES - 1);
+
+        // Act & Assert
+        assertThatThrownBy(() -> store.creditAll(List.of(first, second), List.of(
+            List.of(FxConversion.none(BigDecimal.ONE, "USD")),
+            List.of(FxConversion.none(BigDecimal.TEN, "USD")))))
+            .hasMessage("In-memory journal is full");
+        assertThat(store.balance("MEM-BATCH-1")).isEqualByComparingTo("0");
+        assertThat(store.balance("MEM-BATCH-2")).isEqualByComparingTo("0");
+        assertThat(store.journalLength()).isEqualTo(MAX_ENTRIES - 1);
+    }
+
+    @Test
+    void debit_WhenJournalIsFull_ShouldPutAmountBack() {
+        // Arrange
+        Account account = store.open("MEM-DEBIT", new BigDecimal("10.00"), "USD", null);
+        fillJournalTo(MAX_ENTRIES);
+
+        // Act & Assert
+        assertThatThrownBy(() -> store.debit(account, new BigDecimal("4.00")))
+            .hasMessage("In-memory journal is full");
+        assertThat(store.balance("MEM-DEBIT")).isEqualByComparingTo("10.00");
+        assertThat(store.journalLength()).isEqualTo(MAX_ENTRIES);
+    }
+
+    // Moves the journal end without writing entries; none of these tests read the journal back.
+    private void fillJournalTo(long length) {
+        ((AtomicLong) ReflectionTestUtils.getField(store, "journalLength")).set(length);
+    }
+}
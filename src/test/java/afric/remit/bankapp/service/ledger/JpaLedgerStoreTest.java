@@ -0,0 +1,56 @@
+package afric.remit.bankapp.service.ledger;
+
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.AccountingJournalRepository;
+import afric.remit.bankapp.repository.DailyRollupRepository;
+import afric.remit.bankapp.repository.LedgerOutboxRepository;
+import afric.remit.bankapp.service.DailyRollupService;
+import afric.remit.bankapp.service.HotAccountService;
+import afric.remit.bankapp.service.JournalRecorder;
+import afric.remit.bankapp.service.concurrency.ConcurrencyMetrics;
+import afric.remit.bankapp.service.concurrency.ConcurrencyPolicy;
+import afric.remit.bankapp.service.concurrency.OptimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.concurrency.PessimisticBalanceUpdateStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// Retail accounts are switched to row locks so the concurrency case measures correctness, not retry exhaustion.
+@DataJpaTest(properties = {"concurrency.strategy.retail=pessimistic", "hot-accounts.sweep-interval-ms=3600000"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JpaLedgerStore.class, JournalRecorder.class, DailyRollupService.class, HotAccountService.class,
+    ConcurrencyPolicy.class, ConcurrencyMetrics.class, OptimisticBalanceUpdateStrategy.class,
+    PessimisticBalanceUpdateStrategy.class})
+class JpaLedgerStoreTest extends LedgerStoreConformanceTest {
+
+    @Autowired
+    private LedgerStore store;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountingJournalRepository journalRepository;
+
+    @Autowired
+    private LedgerOutboxRepository outboxRepository;
+
+    @Autowired
+    private DailyRollupRepository rollupRepository;
+
+    @AfterEach
+    void tearDown() {
+        rollupRepository.deleteAll();
+        outboxRepository.deleteAll();
+        journalRepository.deleteAll();
+        accountRepository.deleteAll();
+    }
+
+    @Override
+    protected LedgerStore store() {
+        return store;
+    }
+}
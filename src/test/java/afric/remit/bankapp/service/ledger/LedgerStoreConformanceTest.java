@@ -0,0 +1,210 @@
+package afric.remit.bankapp.service.ledger;
+
+import afric.remit.bankapp.dto.LedgerEntry;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.TransactionType;
+import afric.remit.bankapp.service.fx.FxConversion;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Behaviour every {@link LedgerStore} must share. Subclasses supply the store and clean up after it.
+ */
+abstract class LedgerStoreConformanceTest {
+
+    protected abstract LedgerStore store();
+
+    @Test
+    void open_ShouldBeFindableWithOpeningBalanceAndCurrency() {
+        // Act
+        store().open("LS-OPEN", new BigDecimal("25.50"), "KES", null);
+
+        // Assert
+        Account found = store().findAccount("LS-OPEN").orElseThrow();
+        assertThat(found.getAccountNumber()).isEqualTo("LS-OPEN");
+        assertThat(found.getCurrency()).isEqualTo("KES");
+        assertThat(found.getBalance()).isEqualByComparingTo("25.50");
+        assertThat(store().balance("LS-OPEN")).isEqualByComparingTo("25.50");
+        assertThat(store().entries("LS-OPEN")).isEmpty();
+    }
+
+    @Test
+    void findAccount_WhenUnknown_ShouldBeEmpty() {
+        // Act & Assert
+        assertThat(store().findAccount("LS-MISSING")).isEmpty();
+    }
+
+    @Test
+    void open_WhenNumberInUse_ShouldReject() {
+        // Arrange
+        store().open("LS-TWICE", BigDecimal.ZERO, "USD", null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> store().open("LS-TWICE", BigDecimal.ONE, "USD", null))
+            .isInstanceOf(RuntimeException.class);
+        assertThat(store().balance("LS-TWICE")).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void credit_ShouldAddToBalanceAndJournal() {
+        // Arrange
+        Account account = store().open("LS-CREDIT", new BigDecimal("10.00"), "USD", null);
+
+        // Act
+        store().credit(account, FxConversion.none(new BigDecimal("4.25"), "USD"));
+
+        // Assert
+        assertThat(store().balance("LS-CREDIT")).isEqualByComparingTo("14.25");
+        List<LedgerEntry> entries = store().entries("LS-CREDIT");
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).getType()).isEqualTo(TransactionType.CREDIT);
+        assertThat(entries.get(0).getAmount()).isEqualByComparingTo("4.25");
+        assertThat(entries.get(0).getCurrency()).isEqualTo("USD");
+        assertThat(entries.get(0).getPostedAt()).isNotNull();
+    }
+
+    @Test
+    void credit_WhenConverted_ShouldPostAmountInAccountCurrency() {
+        // Arrange
+        Account account = store().open("LS-FX", BigDecimal.ZERO, "KES", null);
+        FxConversion conversion = new FxConversion(new BigDecimal("1295.00"), "KES", BigDecimal.TEN, "USD",
+            new BigDecimal("129.5"));
+
+        // Act
+        store().credit(account, conversion);
+
+        // Assert
+        assertThat(store().balance("LS-FX")).isEqualByComparingTo("1295.00");
+        assertThat(store().entries("LS-FX").get(0).getCurrency()).isEqualTo("KES");
+    }
+
+    @Test
+    void creditAll_ShouldPostEachAccountsCreditsInOrder() {
+        // Arrange
+        Account first = store().open("LS-BATCH-1", BigDecimal.ZERO, "USD", null);
+        Account second = store().open("LS-BATCH-2", new BigDecimal("1.00"), "USD", null);
+
+        // Act
+        store().creditAll(List.of(first, second), List.of(
+            List.of(FxConversion.none(new BigDecimal("1.00"), "USD"), FxConversion.none(new BigDecimal("2.00"), "USD")),
+            List.of(FxConversion.none(new BigDecimal("0.25"), "USD"))));
+
+        // Assert
+        assertThat(store().balance("LS-BATCH-1")).isEqualByComparingTo("3.00");
+        assertThat(store().balance("LS-BATCH-2")).isEqualByComparingTo("1.25");
+        assertThat(store().entries("LS-BATCH-1")).extracting(LedgerEntry::getAmount)
+            .usingElementComparator(BigDecimal::compareTo)
+            .containsExactly(new BigDecimal("1.00"), new BigDecimal("2.00"));
+    }
+
+    @Test
+    void creditAll_WhenAnAccountIsUnknown_ShouldPostNothing() {
+        // Arrange
+        Account known = store().open("LS-BATCH-OK", BigDecimal.ZERO, "USD", null);
+        Account unknown = new Account("LS-BATCH-GHOST", BigDecimal.ZERO, "USD", null);
+        unknown.setId(Integer.MAX_VALUE - 1L);
+
+        // Act & Assert
+        assertThatThrownBy(() -> store().creditAll(List.of(known, unknown), List.of(
+            List.of(FxConversion.none(new BigDecimal("5.00"), "USD")),
+            List.of(FxConversion.none(new BigDecimal("5.00"), "USD")))))
+            .hasMessage("Account not found");
+        assertThat(store().balance("LS-BATCH-OK")).isEqualByComparingTo("0");
+        assertThat(store().entries("LS-BATCH-OK")).isEmpty();
+    }
+
+    @Test
+    void debit_WhenCovered_ShouldSubtractAndJournal() {
+        // Arrange
+        Account account = store().open("LS-DEBIT", new BigDecimal("10.00"), "USD", null);
+
+        // Act
+        store().debit(account, new BigDecimal("10.00"));
+
+        // Assert
+        assertThat(store().balance("LS-DEBIT")).isEqualByComparingTo("0");
+        assertThat(store().entries("LS-DEBIT")).extracting(LedgerEntry::getType).containsExactly(TransactionType.DEBIT);
+    }
+
+    @Test
+    void debit_WhenNotCovered_ShouldRejectWithoutPosting() {
+        // Arrange
+        Account account = store().open("LS-SHORT", new BigDecimal("5.00"), "USD", null);
+
+        // Act & Assert
+        assertThatThrownBy(() -> store().debit(account, new BigDecimal("5.01")))
+            .hasMessage("Insufficient funds");
+        assertThat(store().balance("LS-SHORT")).isEqualByComparingTo("5.00");
+        assertThat(store().entries("LS-SHORT")).isEmpty();
+    }
+
+    @Test
+    void entries_ShouldBeInPostingOrder() {
+        // Arrange
+        Account account = store().open("LS-ORDER", BigDecimal.ZERO, "USD", null);
+
+        // Act
+        store().credit(account, FxConversion.none(new BigDecimal("1.00"), "USD"));
+        store().credit(account, FxConversion.none(new BigDecimal("2.00"), "USD"));
+        store().debit(account, new BigDecimal("0.50"));
+
+        // Assert
+        assertThat(store().entries("LS-ORDER")).extracting(LedgerEntry::getAmount)
+            .usingElementComparator(BigDecimal::compareTo)
+            .containsExactly(new BigDecimal("1.00"), new BigDecimal("2.00"), new BigDecimal("0.50"));
+    }
+
+    @Test
+    void postings_WhenConcurrent_ShouldKeepBalanceEqualToOpeningPlusJournal() throws Exception {
+        // Arrange
+        Account account = store().open("LS-RACE", new BigDecimal("20.00"), "USD", null);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            futures.add(pool.submit(() -> {
+                int debits = 0;
+                for (int i = 0; i < 25; i++) {
+                    if (i % 2 == 0) {
+                        store().credit(account, FxConversion.none(new BigDecimal("1.00"), "USD"));
+                        continue;
+                    }
+                    try {
+                        store().debit(account, new BigDecimal("3.00"));
+                        debits++;
+                    } catch (RuntimeException e) {
+                        assertThat(e).hasMessage("Insufficient funds");
+                    }
+                }
+                return debits;
+            }));
+        }
+        int debits = 0;
+        for (Future<Integer> future : futures) {
+            debits += future.get();
+        }
+        pool.shutdown();
+
+        // Assert
+        BigDecimal expected = new BigDecimal("20.00").add(new BigDecimal(8 * 13))
+            .subtract(new BigDecimal("3.00").multiply(BigDecimal.valueOf(debits)));
+        assertThat(store().balance("LS-RACE")).isEqualByComparingTo(expected).isNotNegative();
+        BigDecimal net = BigDecimal.ZERO;
+        List<LedgerEntry> entries = store().entries("LS-RACE");
+        for (LedgerEntry entry : entries) {
+            net = entry.getType() == TransactionType.CREDIT ? net.add(entry.getAmount()) : net.subtract(entry.getAmount());
+        }
+        assertThat(entries).hasSize(8 * 13 + debits);
+        assertThat(new BigDecimal("20.00").add(net)).isEqualByComparingTo(expected);
+    }
+}
@@ -0,0 +1,97 @@
+package afric.remit.bankapp.service.limiter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter();
+        ReflectionTestUtils.setField(limiter, "initialLimit", 20);
+        ReflectionTestUtils.setField(limiter, "minLimit", 2);
+        ReflectionTestUtils.setField(limiter, "maxLimit", 100);
+        ReflectionTestUtils.setField(limiter, "windowMillis", 100L);
+        ReflectionTestUtils.setField(limiter, "minWindowSamples", 10);
+        ReflectionTestUtils.setField(limiter, "baselineWindows", 100);
+        ReflectionTestUtils.setField(limiter, "queueSize", 4);
+        ReflectionTestUtils.setField(limiter, "smoothing", 0.2);
+        ReflectionTestUtils.setField(limiter, "clock", (LongSupplier) now::get);
+        limiter.init();
+    }
+
+    @Test
+    void tryAcquire_WhenLimitReached_ShouldRejectUntilReleased() {
+        // Arrange
+        for (int i = 0; i < 20; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        // Act & Assert
+        assertThat(limiter.tryAcquire()).isFalse();
+        limiter.release(1_000);
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.getRejected()).isEqualTo(1);
+        assertThat(limiter.getInFlight()).isEqualTo(20);
+    }
+
+    @Test
+    void release_WhenLatencyRisesAboveBaseline_ShouldShrinkLimit() {
+        // Arrange
+        runWindows(5, 20, 10);
+        int before = limiter.getLimit();
+
+        // Act
+        runWindows(10, 20, 100);
+
+        // Assert
+        assertThat(limiter.getLimit()).isLessThan(before);
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void release_WhenLatencyStableAndLimitSaturated_ShouldGrowLimit() {
+        // Act
+        runWindows(20, 20, 10);
+
+        // Assert
+        assertThat(limiter.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    void release_WhenTrafficUsesLittleOfTheLimit_ShouldNotGrowLimit() {
+        // Act
+        runWindows(20, 2, 10);
+
+        // Assert
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    // Each window holds `concurrency` requests in flight at once, all taking `latencyMillis`.
+    private void runWindows(int windows, int concurrency, long latencyMillis) {
+        for (int w = 0; w < windows; w++) {
+            for (int round = 0; round < 2; round++) {
+                int acquired = 0;
+                while (acquired < concurrency && limiter.tryAcquire()) {
+                    acquired++;
+                }
+                for (int i = 0; i < acquired; i++) {
+                    limiter.release(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+                }
+            }
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(101));
+            limiter.tryAcquire();
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        }
+    }
+}
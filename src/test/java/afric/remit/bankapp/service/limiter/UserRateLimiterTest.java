@@ -0,0 +1,93 @@
+package afric.remit.bankapp.service.limiter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+    private UserRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new UserRateLimiter();
+        ReflectionTestUtils.setField(limiter, "permitsPerSecond", 10.0);
+        ReflectionTestUtils.setField(limiter, "burst", 5);
+        ReflectionTestUtils.setField(limiter, "clock", (LongSupplier) now::get);
+        limiter.init();
+    }
+
+    @Test
+    void tryAcquire_WhenBurstExhausted_ShouldRejectUntilRefilled() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("user:alice")).isTrue();
+        }
+
+        // Act & Assert
+        assertThat(limiter.tryAcquire("user:alice")).isFalse();
+        assertThat(limiter.retryAfterSeconds("user:alice")).isEqualTo(1);
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(limiter.tryAcquire("user:alice")).isTrue();
+        assertThat(limiter.tryAcquire("user:alice")).isFalse();
+        assertThat(limiter.getRejected()).isEqualTo(2);
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepCallersIndependent() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("user:alice");
+        }
+
+        // Act & Assert
+        assertThat(limiter.tryAcquire("user:alice")).isFalse();
+        assertThat(limiter.tryAcquire("user:bob")).isTrue();
+    }
+
+    @Test
+    void tryAcquire_WhenConcurrent_ShouldGrantExactlyTheBurst() throws Exception {
+        // Arrange
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 200; i++) {
+            results.add(pool.submit(() -> limiter.tryAcquire("user:carol")));
+        }
+        int granted = 0;
+        for (Future<Boolean> result : results) {
+            granted += result.get() ? 1 : 0;
+        }
+        pool.shutdown();
+
+        // Assert
+        assertThat(granted).isEqualTo(5);
+    }
+
+    @Test
+    void evictIdle_ShouldDropOnlyFullBuckets() {
+        // Arrange
+        limiter.tryAcquire("user:idle");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        limiter.tryAcquire("user:active");
+
+        // Act
+        limiter.evictIdle();
+
+        // Assert
+        assertThat(limiter.getTrackedCallers()).isEqualTo(1);
+    }
+}
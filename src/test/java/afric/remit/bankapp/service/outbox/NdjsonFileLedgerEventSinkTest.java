@@ -0,0 +1,43 @@
+package afric.remit.bankapp.service.outbox;
+
+import afric.remit.bankapp.dto.LedgerEvent;
+import afric.remit.bankapp.model.TransactionType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NdjsonFileLedgerEventSinkTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void deliver_ShouldAppendOneJsonLinePerEvent() throws Exception {
+        // Arrange
+        Path file = tempDir.resolve("events.ndjson");
+        NdjsonFileLedgerEventSink sink = new NdjsonFileLedgerEventSink(file.toString());
+        LocalDateTime at = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+        // Act
+        sink.deliver(Arrays.asList(
+            new LedgerEvent(1L, 10L, 5L, new BigDecimal("1.50"), TransactionType.CREDIT, at),
+            new LedgerEvent(2L, 11L, 5L, new BigDecimal("0.50"), TransactionType.DEBIT, at)));
+        sink.deliver(Collections.singletonList(
+            new LedgerEvent(3L, 12L, 6L, new BigDecimal("2.00"), TransactionType.CREDIT, at)));
+
+        // Assert
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).contains("\"eventId\":1", "\"type\":\"CREDIT\"", "\"occurredAt\":\"2026-10-01T12:00:00\"");
+        assertThat(lines.get(2)).contains("\"eventId\":3", "\"accountId\":6");
+    }
+}
@@ -0,0 +1,329 @@
+package afric.remit.bankapp.service.outbox;
+
+import afric.remit.bankapp.dto.LedgerEvent;
+import afric.remit.bankapp.dto.TransactionRequest;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.AccrualKind;
+import afric.remit.bankapp.model.LedgerOutboxEvent;
+import afric.remit.bankapp.model.TransactionType;
+import afric.remit.bankapp.model.User;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.AccountingJournalRepository;
+import afric.remit.bankapp.repository.AccrualChunkRepository;
+import afric.remit.bankapp.repository.LedgerOutboxRepository;
+import afric.remit.bankapp.repository.UserRepository;
+import afric.remit.bankapp.service.AccountService;
+import afric.remit.bankapp.service.AccrualService;
+import afric.remit.bankapp.service.DailyRollupService;
+import afric.remit.bankapp.service.HotAccountService;
+import afric.remit.bankapp.service.JournalRecorder;
+import afric.remit.bankapp.service.concurrency.ConcurrencyMetrics;
+import afric.remit.bankapp.service.concurrency.ConcurrencyPolicy;
+import afric.remit.bankapp.service.concurrency.OptimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.concurrency.PessimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.fx.FxRateService;
+import afric.remit.bankapp.service.ledger.JpaLedgerStore;
+import afric.remit.bankapp.service.velocity.VelocityService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {"hot-accounts.sweep-interval-ms=3600000", "outbox.batch-size=2"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({OutboxRelay.class, OutboxRelayTest.RecordingSink.class, AccountService.class, AccrualService.class,
+    HotAccountService.class, JournalRecorder.class, DailyRollupService.class, ConcurrencyPolicy.class, ConcurrencyMetrics.class,
+    OptimisticBalanceUpdateStrategy.class, PessimisticBalanceUpdateStrategy.class, FxRateService.class, VelocityService.class, JpaLedgerStore.class})
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private RecordingSink sink;
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private AccrualService accrualService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountingJournalRepository journalRepository;
+
+    @Autowired
+    private AccrualChunkRepository chunkRepository;
+
+    @Autowired
+    private LedgerOutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("outbox", "password", "outbox@example.com"));
+        accountRepository.save(new Account("OUT-1", new BigDecimal("100.00"), user));
+        accountRepository.save(new Account("OUT-2", new BigDecimal("100.00"), user));
+        sink.delivered.clear();
+        sink.failNext = false;
+        sink.duringDelivery = null;
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+        chunkRepository.deleteAll();
+        journalRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void credit_ShouldWriteOutboxEventForJournalEntry() {
+        // Act
+        accountService.credit(request("OUT-1", "25.00"));
+
+        // Assert
+        assertThat(outboxRepository.findAll()).singleElement().satisfies(event -> {
+            assertThat(event.getJournalId()).isEqualTo(journalRepository.findAll().get(0).getId());
+            assertThat(event.getType()).isEqualTo(TransactionType.CREDIT);
+            assertThat(event.getAmount()).isEqualByComparingTo("25.00");
+            assertThat(event.getDispatchedAt()).isNull();
+        });
+    }
+
+    @Test
+    void debit_WhenRejected_ShouldNotLeaveOutboxEvent() {
+        // Act & Assert
+        assertThatThrownBy(() -> accountService.debit(request("OUT-1", "500.00")))
+            .hasMessage("Insufficient funds");
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void poll_ShouldDeliverAllEventsInPostingOrderAndMarkThemDispatched() {
+        // Arrange
+        accountService.credit(request("OUT-1", "1.00"));
+        accountService.credit(request("OUT-2", "2.00"));
+        accountService.debit(request("OUT-1", "3.00"));
+
+        // Act
+        outboxRelay.poll();
+
+        // Assert
+        assertThat(sink.delivered.stream().map(LedgerEvent::getAmount).map(BigDecimal::toPlainString)
+            .collect(Collectors.toList())).containsExactly("1.00", "2.00", "3.00");
+        assertThat(outboxRepository.countUndispatched()).isZero();
+        assertThat(outboxRelay.stats().getBacklog()).isZero();
+        assertThat(outboxRelay.stats().getBatches()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void poll_WhenSinkFails_ShouldRedeliverSameBatchOnNextPoll() {
+        // Arrange
+        accountService.credit(request("OUT-1", "1.00"));
+        sink.failNext = true;
+
+        // Act
+        outboxRelay.poll();
+        long undispatchedAfterFailure = outboxRepository.countUndispatched();
+        outboxRelay.poll();
+
+        // Assert
+        assertThat(undispatchedAfterFailure).isEqualTo(1);
+        assertThat(sink.delivered).hasSize(1);
+        assertThat(outboxRepository.countUndispatched()).isZero();
+        assertThat(outboxRelay.stats().getFailures()).isEqualTo(1);
+    }
+
+    @Test
+    void relayBatch_WhileAnotherRelayDelivers_ShouldNotBlockOrClaimPastItsLease() throws Exception {
+        // Arrange
+        accountService.credit(request("OUT-1", "1.00"));
+        ExecutorService otherRelay = Executors.newSingleThreadExecutor();
+        List<Integer> relayedMeanwhile = new ArrayList<>();
+        sink.duringDelivery = () -> {
+            try {
+                relayedMeanwhile.add(otherRelay.submit(outboxRelay::relayBatch).get(5, TimeUnit.SECONDS));
+                accountService.credit(request("OUT-2", "2.00"));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+
+        // Act
+        int relayed = outboxRelay.relayBatch();
+        otherRelay.shutdown();
+
+        // Assert
+        assertThat(relayed).isEqualTo(1);
+        assertThat(relayedMeanwhile).containsExactly(0);
+        assertThat(outboxRepository.countUndispatched()).isEqualTo(1);
+        assertThat(outboxRelay.relayBatch()).isEqualTo(1);
+        assertThat(sink.delivered).extracting(LedgerEvent::getAccountId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void relayBatch_WhenLowerIdCommitsAfterHigherId_ShouldDeliverInIdOrder() throws Exception {
+        // Arrange
+        outboxRepository.save(event("0.50"));
+        outboxRelay.relayBatch();
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService slowPosting = Executors.newSingleThreadExecutor();
+        Future<?> lower = slowPosting.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxRepository.saveAndFlush(event("1.00"));
+            inserted.countDown();
+            await(commit);
+        }));
+        assertThat(inserted.await(5, TimeUnit.SECONDS)).isTrue();
+        outboxRepository.save(event("2.00"));
+
+        // Act
+        int relayedWhileOpen = outboxRelay.relayBatch();
+        commit.countDown();
+        lower.get(5, TimeUnit.SECONDS);
+        slowPosting.shutdown();
+        int relayedAfterCommit = outboxRelay.relayBatch();
+
+        // Assert
+        assertThat(relayedWhileOpen).isZero();
+        assertThat(relayedAfterCommit).isEqualTo(2);
+        assertThat(sink.delivered).extracting(event -> event.getAmount().toPlainString())
+            .containsExactly("0.50", "1.00", "2.00");
+    }
+
+    @Test
+    void relayBatch_WhenGapOutlastsGrace_ShouldPassOverIt() {
+        // Arrange
+        outboxRepository.save(event("1.00"));
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            outboxRepository.saveAndFlush(event("9.99"));
+            status.setRollbackOnly();
+        });
+        outboxRepository.save(event("2.00"));
+        AtomicLong now = new AtomicLong(1_000_000);
+        ReflectionTestUtils.setField(outboxRelay, "clock", (LongSupplier) now::get);
+
+        // Act
+        try {
+            int beforeGap = outboxRelay.relayBatch();
+            int heldBack = outboxRelay.relayBatch();
+            now.addAndGet(5000);
+            int afterGrace = outboxRelay.relayBatch();
+
+            // Assert
+            assertThat(beforeGap).isEqualTo(1);
+            assertThat(heldBack).isZero();
+            assertThat(afterGrace).isEqualTo(1);
+            assertThat(sink.delivered).extracting(event -> event.getAmount().toPlainString()).containsExactly("1.00", "2.00");
+        } finally {
+            ReflectionTestUtils.setField(outboxRelay, "clock", (LongSupplier) System::currentTimeMillis);
+        }
+    }
+
+    @Test
+    void purge_ShouldKeepLastDispatchedRow() {
+        // Arrange
+        accountService.credit(request("OUT-1", "1.00"));
+        accountService.credit(request("OUT-1", "2.00"));
+        outboxRelay.poll();
+        ReflectionTestUtils.setField(outboxRelay, "retentionHours", -1L);
+
+        // Act
+        try {
+            outboxRelay.purge();
+        } finally {
+            ReflectionTestUtils.setField(outboxRelay, "retentionHours", 24L);
+        }
+
+        // Assert
+        assertThat(outboxRepository.findAll()).singleElement()
+            .satisfies(event -> assertThat(event.getAmount()).isEqualByComparingTo("2.00"));
+    }
+
+    @Test
+    void accrual_ShouldWriteOutboxEventForEveryPosting() {
+        // Act
+        accrualService.run(AccrualKind.FEE, YearMonth.of(2026, 9));
+
+        // Assert
+        assertThat(outboxRepository.count()).isEqualTo(2);
+        assertThat(outboxRepository.findAll()).extracting("journalId")
+            .containsExactlyInAnyOrderElementsOf(journalRepository.findAll().stream()
+                .map(j -> j.getId()).collect(Collectors.toList()));
+    }
+
+    private static LedgerOutboxEvent event(String amount) {
+        return new LedgerOutboxEvent(null, null, 1L, new BigDecimal(amount), TransactionType.CREDIT, LocalDateTime.now(),
+            null, null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private TransactionRequest request(String accountNumber, String amount) {
+        TransactionRequest request = new TransactionRequest();
+        request.setAccountNumber(accountNumber);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+
+    static class RecordingSink implements LedgerEventSink {
+        final List<LedgerEvent> delivered = new ArrayList<>();
+        volatile boolean failNext;
+        volatile Runnable duringDelivery;
+
+        @Override
+        public void deliver(List<LedgerEvent> events) {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("Sink unavailable");
+            }
+            Runnable hook = duringDelivery;
+            duringDelivery = null;
+            if (hook != null) {
+                hook.run();
+            }
+            synchronized (this) {
+                delivered.addAll(events);
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package afric.remit.bankapp.service.token;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenRevocationServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.DAYS.toMillis(20000));
+    private Path revocationFile;
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setUp() {
+        revocationFile = tempDir.resolve("revoked-tokens.bin");
+        service = newService();
+    }
+
+    @Test
+    void isRevoked_WhenRevoked_ShouldMatchOnlyThatIdUntilItExpires() {
+        // Arrange
+        String revoked = UUID.randomUUID().toString();
+        String other = UUID.randomUUID().toString();
+
+        // Act
+        service.revoke(revoked, now.get() + 1000);
+
+        // Assert
+        assertThat(service.isRevoked(revoked)).isTrue();
+        assertThat(service.isRevoked(revoked.toUpperCase())).isTrue();
+        assertThat(service.isRevoked(other)).isFalse();
+        now.addAndGet(1000);
+        assertThat(service.isRevoked(revoked)).isFalse();
+    }
+
+    @Test
+    void isRevoked_WhenIdIsMissingOrNotAUuid_ShouldReturnFalse() {
+        assertThat(service.isRevoked(null)).isFalse();
+        assertThat(service.isRevoked("not-a-token-id")).isFalse();
+        assertThat(service.isRevoked("123e4567+e89b-12d3-a456-426614174000")).isFalse();
+    }
+
+    @Test
+    void revoke_WhenIdIsNotAUuid_ShouldThrow() {
+        assertThatThrownBy(() -> service.revoke("abc", now.get() + 1000))
+            .hasMessage("Invalid token id");
+    }
+
+    @Test
+    void revoke_WhenManyTokens_ShouldGrowAndKeepEveryEntry() {
+        // Arrange
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            ids.add(UUID.randomUUID().toString());
+        }
+
+        // Act
+        ids.forEach(id -> service.revoke(id, now.get() + 60_000));
+
+        // Assert
+        assertThat(ids).allMatch(service::isRevoked);
+        assertThat(service.stats().getRevokedTokens()).isEqualTo(5000);
+        assertThat(service.stats().getCapacity()).isGreaterThanOrEqualTo(10000);
+    }
+
+    @Test
+    void revoke_WhenFullOfLiveEntries_ShouldRefuseUntilSomeExpire() {
+        // Arrange
+        ReflectionTestUtils.setField(service, "maxEntries", 3);
+        String kept = UUID.randomUUID().toString();
+        service.revoke(kept, now.get() + 60_000);
+        service.revoke(UUID.randomUUID().toString(), now.get() + 60_000);
+        service.revoke(UUID.randomUUID().toString(), now.get() + 1000);
+        String refused = UUID.randomUUID().toString();
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.revoke(refused, now.get() + 60_000))
+            .hasMessage("Revocation list is full");
+        assertThat(service.isRevoked(refused)).isFalse();
+        service.revoke(kept, now.get() + 120_000);
+        now.addAndGet(1000);
+        service.revoke(refused, now.get() + 60_000);
+        assertThat(service.isRevoked(refused)).isTrue();
+        assertThat(service.stats().getRevokedTokens()).isEqualTo(3);
+    }
+
+    @Test
+    void load_ShouldRestoreLiveRevocationsAndIgnoreATruncatedRecord() throws Exception {
+        // Arrange
+        String live = UUID.randomUUID().toString();
+        String expiring = UUID.randomUUID().toString();
+        service.revoke(live, now.get() + 60_000);
+        service.revoke(expiring, now.get() + 1000);
+        Files.write(revocationFile, new byte[] {1, 2, 3}, StandardOpenOption.APPEND);
+        now.addAndGet(1000);
+
+        // Act
+        TokenRevocationService restarted = newService();
+
+        // Assert
+        assertThat(restarted.isRevoked(live)).isTrue();
+        assertThat(restarted.isRevoked(expiring)).isFalse();
+        assertThat(restarted.stats().getRevokedTokens()).isEqualTo(1);
+    }
+
+    @Test
+    void load_WhenLastAppendWasTorn_ShouldKeepLaterRevocationsAligned() throws Exception {
+        // Arrange
+        String before = UUID.randomUUID().toString();
+        service.revoke(before, now.get() + 60_000);
+        Files.write(revocationFile, new byte[] {1, 2, 3}, StandardOpenOption.APPEND);
+        TokenRevocationService restarted = newService();
+        String after = UUID.randomUUID().toString();
+        restarted.revoke(after, now.get() + 60_000);
+
+        // Act
+        TokenRevocationService reloaded = newService();
+
+        // Assert
+        assertThat(Files.size(revocationFile)).isEqualTo(2L * TokenRevocationService.RECORD_BYTES);
+        assertThat(reloaded.isRevoked(before)).isTrue();
+        assertThat(reloaded.isRevoked(after)).isTrue();
+        assertThat(reloaded.stats().getRevokedTokens()).isEqualTo(2);
+    }
+
+    @Test
+    void sweep_WhenEntriesExpired_ShouldCompactTableAndFile() throws Exception {
+        // Arrange
+        String live = UUID.randomUUID().toString();
+        service.revoke(live, now.get() + 60_000);
+        for (int i = 0; i < 10; i++) {
+            service.revoke(UUID.randomUUID().toString(), now.get() + 1000);
+        }
+        now.addAndGet(1000);
+
+        // Act
+        service.sweep();
+
+        // Assert
+        assertThat(service.isRevoked(live)).isTrue();
+        assertThat(Files.size(revocationFile)).isEqualTo(TokenRevocationService.RECORD_BYTES);
+        assertThat(newService().isRevoked(live)).isTrue();
+    }
+
+    @Test
+    void isRevoked_WhenRevokingConcurrently_ShouldSeeEveryCompletedRevocation() throws Exception {
+        // Arrange
+        int threads = 8;
+        int perThread = 2000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            results.add(pool.submit(() -> {
+                boolean allVisible = true;
+                for (int i = 0; i < perThread; i++) {
+                    String id = UUID.randomUUID().toString();
+                    service.revoke(id, now.get() + 60_000);
+                    allVisible &= service.isRevoked(id);
+                }
+                return allVisible;
+            }));
+        }
+
+        // Assert
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        pool.shutdown();
+        assertThat(service.stats().getRevokedTokens()).isEqualTo(threads * perThread);
+    }
+
+    private TokenRevocationService newService() {
+        TokenRevocationService created = new TokenRevocationService();
+        ReflectionTestUtils.setField(created, "revocationFile", revocationFile.toString());
+        ReflectionTestUtils.setField(created, "initialCapacity", 16);
+        ReflectionTestUtils.setField(created, "clock", (LongSupplier) now::get);
+        created.load();
+        return created;
+    }
+}
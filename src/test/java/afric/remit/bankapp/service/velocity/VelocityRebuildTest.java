@@ -0,0 +1,131 @@
+package afric.remit.bankapp.service.velocity;
+
+import afric.remit.bankapp.dto.TransactionRequest;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.model.User;
+import afric.remit.bankapp.repository.AccountRepository;
+import afric.remit.bankapp.repository.AccountingJournalRepository;
+import afric.remit.bankapp.repository.DailyRollupRepository;
+import afric.remit.bankapp.repository.LedgerOutboxRepository;
+import afric.remit.bankapp.repository.UserRepository;
+import afric.remit.bankapp.service.AccountService;
+import afric.remit.bankapp.service.DailyRollupService;
+import afric.remit.bankapp.service.HotAccountService;
+import afric.remit.bankapp.service.JournalRecorder;
+import afric.remit.bankapp.service.concurrency.ConcurrencyMetrics;
+import afric.remit.bankapp.service.concurrency.ConcurrencyPolicy;
+import afric.remit.bankapp.service.concurrency.OptimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.concurrency.PessimisticBalanceUpdateStrategy;
+import afric.remit.bankapp.service.fx.FxRateService;
+import afric.remit.bankapp.service.ledger.JpaLedgerStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {"velocity.rules=burst:300:3:0,amount:300:0:100.00",
+    "fx.rates-file=src/test/resources/fx/rates.csv", "hot-accounts.sweep-interval-ms=3600000"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({AccountService.class, HotAccountService.class, ConcurrencyPolicy.class, ConcurrencyMetrics.class,
+    OptimisticBalanceUpdateStrategy.class, PessimisticBalanceUpdateStrategy.class,
+    JournalRecorder.class, DailyRollupService.class, FxRateService.class, JpaLedgerStore.class, VelocityService.class})
+class VelocityRebuildTest {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private VelocityService velocityService;
+
+    @Autowired
+    private FxRateService fxRateService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountingJournalRepository journalRepository;
+
+    @Autowired
+    private LedgerOutboxRepository outboxRepository;
+
+    @Autowired
+    private DailyRollupRepository rollupRepository;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("spender", "password", "spender@example.com"));
+        accountRepository.save(new Account("VEL-USD", new BigDecimal("1000.00"), user));
+        accountRepository.save(new Account("VEL-KES", new BigDecimal("100000.00"), "KES", user));
+        // The bean outlives each test's data; rebuilding from the emptied journal resets it.
+        velocityService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        rollupRepository.deleteAll();
+        outboxRepository.deleteAll();
+        journalRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void debit_WhenDebitLimitReached_ShouldRejectWithoutPosting() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            accountService.debit(request("VEL-USD", "10.00"));
+        }
+
+        // Act & Assert
+        assertThatThrownBy(() -> accountService.debit(request("VEL-USD", "10.00")))
+            .hasMessage("Velocity limit exceeded: burst");
+        assertThat(accountRepository.findByAccountNumber("VEL-USD").get().getBalance()).isEqualByComparingTo("970.00");
+        assertThat(journalRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    void init_WhenRestarted_ShouldRebuildWindowsFromJournal() {
+        // Arrange
+        accountService.debit(request("VEL-USD", "10.00"));
+        accountService.debit(request("VEL-USD", "10.00"));
+        accountService.debit(request("VEL-KES", "12160.00"));
+
+        // Act
+        VelocityService restarted = new VelocityService();
+        ReflectionTestUtils.setField(restarted, "journalRepository", journalRepository);
+        ReflectionTestUtils.setField(restarted, "fxRateService", fxRateService);
+        ReflectionTestUtils.setField(restarted, "ruleSpecs", "burst:300:3:0,amount:300:0:100.00");
+        restarted.init();
+
+        // Assert
+        assertThat(restarted.stats().getRebuiltDebits()).isEqualTo(3);
+        Account usd = accountRepository.findByAccountNumber("VEL-USD").get();
+        restarted.record(usd, BigDecimal.ONE);
+        assertThatThrownBy(() -> restarted.record(usd, BigDecimal.ONE)).hasMessage("Velocity limit exceeded: burst");
+        Account kes = accountRepository.findByAccountNumber("VEL-KES").get();
+        assertThatThrownBy(() -> restarted.record(kes, new BigDecimal("768.00")))
+            .hasMessage("Velocity limit exceeded: amount");
+        restarted.record(kes, new BigDecimal("640.00"));
+    }
+
+    private static TransactionRequest request(String accountNumber, String amount) {
+        TransactionRequest request = new TransactionRequest();
+        request.setAccountNumber(accountNumber);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+}
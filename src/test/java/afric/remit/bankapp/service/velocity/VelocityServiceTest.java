@@ -0,0 +1,256 @@
+package afric.remit.bankapp.service.velocity;
+
+import afric.remit.bankapp.dto.TransactionRequest;
+import afric.remit.bankapp.model.Account;
+import afric.remit.bankapp.repository.AccountingJournalRepository;
+import afric.remit.bankapp.repository.projection.RecentDebitView;
+import afric.remit.bankapp.service.AccountService;
+import afric.remit.bankapp.service.fx.FxRateService;
+import afric.remit.bankapp.service.ledger.InMemoryLedgerStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VelocityServiceTest {
+
+    private static final long BUCKET_MS = 10_000;
+
+    @Mock
+    private AccountingJournalRepository journalRepository;
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000_000L);
+    private FxRateService fxRateService;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        fxRateService = new FxRateService();
+        ReflectionTestUtils.setField(fxRateService, "baseCurrency", "USD");
+        ReflectionTestUtils.setField(fxRateService, "ratesFile", "src/test/resources/fx/rates.csv");
+        fxRateService.init();
+        account = new Account("VEL-1", new BigDecimal("1000.00"), "USD", null);
+    }
+
+    @Test
+    void record_WhenDebitLimitReached_ShouldRejectUntilWindowSlides() {
+        // Arrange
+        VelocityService service = service("burst:30:3:0");
+        for (int i = 0; i < 3; i++) {
+            service.record(account, BigDecimal.ONE);
+            now.addAndGet(BUCKET_MS / 2);
+        }
+
+        // Act & Assert
+        assertThatThrownBy(() -> service.record(account, BigDecimal.ONE))
+            .hasMessage("Velocity limit exceeded: burst");
+        now.addAndGet(2 * BUCKET_MS);
+        assertThat(service.record(account, BigDecimal.ONE)).isNotEqualTo(VelocityService.NOT_RECORDED);
+        assertThat(service.stats().getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void record_WhenAmountLimitReached_ShouldCompareInBaseCurrency() {
+        // Arrange
+        VelocityService service = service("amount:60:0:100.00");
+        Account kesAccount = new Account("VEL-KES", new BigDecimal("100000.00"), "KES", null);
+        service.record(kesAccount, new BigDecimal("6400.00"));
+
+        // Act & Assert
+        service.record(kesAccount, new BigDecimal("6400.00"));
+        assertThatThrownBy(() -> service.record(kesAccount, new BigDecimal("1.28")))
+            .hasMessage("Velocity limit exceeded: amount");
+    }
+
+    @Test
+    void record_ShouldApplyEveryRuleOverItsOwnWindow() {
+        // Arrange
+        VelocityService service = service("burst:10:2:0,hourly:3600:3:0");
+        service.record(account, BigDecimal.ONE);
+        service.record(account, BigDecimal.ONE);
+        assertThatThrownBy(() -> service.record(account, BigDecimal.ONE)).hasMessage("Velocity limit exceeded: burst");
+        now.addAndGet(BUCKET_MS);
+
+        // Act & Assert
+        service.record(account, BigDecimal.ONE);
+        assertThatThrownBy(() -> service.record(account, BigDecimal.ONE)).hasMessage("Velocity limit exceeded: hourly");
+    }
+
+    @Test
+    void record_WhenNoRules_ShouldNotTrackAccounts() {
+        // Arrange
+        VelocityService service = service("");
+
+        // Act
+        long bucket = service.record(account, new BigDecimal("1000000.00"));
+
+        // Assert
+        assertThat(bucket).isEqualTo(VelocityService.NOT_RECORDED);
+        assertThat(service.stats().getTrackedAccounts()).isZero();
+        verify(journalRepository, never()).findDebitsSince(any());
+    }
+
+    @Test
+    void debit_WhenLedgerRejectsDebit_ShouldReleaseItsVelocityCount() {
+        // Arrange
+        VelocityService service = service("burst:60:2:0");
+        InMemoryLedgerStore ledgerStore = new InMemoryLedgerStore();
+        ledgerStore.open("VEL-LOW", new BigDecimal("5.00"), "USD", null);
+        AccountService accountService = new AccountService();
+        ReflectionTestUtils.setField(accountService, "ledgerStore", ledgerStore);
+        ReflectionTestUtils.setField(accountService, "fxRateService", fxRateService);
+        ReflectionTestUtils.setField(accountService, "velocityService", service);
+        TransactionRequest overdraft = request("VEL-LOW", "50.00");
+
+        // Act
+        assertThatThrownBy(() -> accountService.debit(overdraft)).hasMessage("Insufficient funds");
+        assertThatThrownBy(() -> accountService.debit(overdraft)).hasMessage("Insufficient funds");
+        accountService.debit(request("VEL-LOW", "1.00"));
+        accountService.debit(request("VEL-LOW", "1.00"));
+
+        // Assert
+        assertThatThrownBy(() -> accountService.debit(request("VEL-LOW", "1.00")))
+            .hasMessage("Velocity limit exceeded: burst");
+        assertThat(ledgerStore.balance("VEL-LOW")).isEqualByComparingTo("3.00");
+    }
+
+    @Test
+    void init_ShouldRebuildWindowsFromRecentJournalDebits() {
+        // Arrange
+        when(journalRepository.findDebitsSince(any())).thenReturn(Arrays.asList(
+            debit("VEL-1", "USD", "40.00", now.get() - 50_000),
+            debit("VEL-1", "USD", "50.00", now.get() - 5_000),
+            debit("VEL-2", "EUR", "8.00", now.get() - 1_000)));
+
+        // Act
+        VelocityService service = service("minute:60:0:100.00");
+
+        // Assert
+        assertThat(service.stats().getRebuiltDebits()).isEqualTo(3);
+        assertThat(service.stats().getTrackedAccounts()).isEqualTo(2);
+        assertThatThrownBy(() -> service.record(account, new BigDecimal("10.01")))
+            .hasMessage("Velocity limit exceeded: minute");
+        service.record(account, new BigDecimal("10.00"));
+        Account euroAccount = new Account("VEL-2", BigDecimal.ZERO, "EUR", null);
+        service.record(euroAccount, new BigDecimal("72.00"));
+        assertThatThrownBy(() -> service.record(euroAccount, new BigDecimal("0.01")))
+            .hasMessage("Velocity limit exceeded: minute");
+    }
+
+    @Test
+    void evictIdle_ShouldDropOnlyAccountsOutsideEveryWindow() {
+        // Arrange
+        VelocityService service = service("burst:30:1:0");
+        service.record(account, BigDecimal.ONE);
+        now.addAndGet(40_000);
+        service.record(new Account("VEL-ACTIVE", BigDecimal.ZERO, "USD", null), BigDecimal.ONE);
+
+        // Act
+        service.evictIdle();
+
+        // Assert
+        assertThat(service.stats().getTrackedAccounts()).isEqualTo(1);
+        assertThatThrownBy(() -> service.record(new Account("VEL-ACTIVE", BigDecimal.ZERO, "USD", null), BigDecimal.ONE))
+            .hasMessage("Velocity limit exceeded: burst");
+        service.record(account, BigDecimal.ONE);
+    }
+
+    @Test
+    void record_WhenConcurrentOnOneAccount_ShouldAdmitExactlyTheLimit() throws Exception {
+        // Arrange
+        VelocityService service = service("burst:60:500:0");
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        AtomicLong admitted = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            futures.add(pool.submit(() -> {
+                for (int i = 0; i < 200; i++) {
+                    try {
+                        service.record(account, BigDecimal.ONE);
+                        admitted.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        // Over the limit.
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+
+        // Assert
+        assertThat(admitted.get()).isEqualTo(500);
+        assertThat(service.stats().getRejected()).isEqualTo(1100);
+    }
+
+    @Test
+    void init_WhenRuleIsMalformed_ShouldFail() {
+        assertThatThrownBy(() -> service("burst:30:3"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("name:window-seconds:max-debits:max-amount");
+    }
+
+    private VelocityService service(String rules) {
+        VelocityService service = new VelocityService();
+        ReflectionTestUtils.setField(service, "journalRepository", journalRepository);
+        ReflectionTestUtils.setField(service, "fxRateService", fxRateService);
+        ReflectionTestUtils.setField(service, "ruleSpecs", rules);
+        ReflectionTestUtils.setField(service, "bucketMillis", BUCKET_MS);
+        ReflectionTestUtils.setField(service, "clock", (LongSupplier) now::get);
+        service.init();
+        return service;
+    }
+
+    private static TransactionRequest request(String accountNumber, String amount) {
+        TransactionRequest request = new TransactionRequest();
+        request.setAccountNumber(accountNumber);
+        request.setAmount(new BigDecimal(amount));
+        return request;
+    }
+
+    private static RecentDebitView debit(String accountNumber, String currency, String amount, long at) {
+        return new RecentDebitView() {
+            public String getAccountNumber() {
+                return accountNumber;
+            }
+
+            public String getCurrency() {
+                return currency;
+            }
+
+            public BigDecimal getAmount() {
+                return new BigDecimal(amount);
+            }
+
+            public LocalDateTime getTransactionDate() {
+                return LocalDateTime.ofInstant(Instant.ofEpochMilli(at), ZoneId.systemDefault());
+            }
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package afric.remit.bankapp.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedRingBufferTest {
+
+    @Test
+    void offer_WhenFull_ShouldRefuseUntilDrained() {
+        // Arrange
+        BoundedRingBuffer<Integer> ring = new BoundedRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(ring.offer(i)).isTrue();
+        }
+
+        // Act & Assert
+        assertThat(ring.offer(4)).isFalse();
+        List<Integer> drained = new ArrayList<>();
+        assertThat(ring.drainTo(drained, 2)).isEqualTo(2);
+        assertThat(drained).containsExactly(0, 1);
+        assertThat(ring.offer(4)).isTrue();
+        assertThat(ring.size()).isEqualTo(3);
+    }
+
+    @Test
+    void constructor_WhenCapacityNotPowerOfTwo_ShouldThrow() {
+        assertThatThrownBy(() -> new BoundedRingBuffer<Integer>(100))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void drainTo_WithConcurrentProducers_ShouldKeepEachProducersOrder() throws Exception {
+        // Arrange
+        int producers = 4;
+        int perProducer = 50_000;
+        BoundedRingBuffer<long[]> ring = new BoundedRingBuffer<>(1024);
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            pool.submit(() -> {
+                start.await();
+                for (long i = 0; i < perProducer; i++) {
+                    while (!ring.offer(new long[] {producer, i})) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+        }
+
+        // Act
+        start.countDown();
+        long[] lastSeen = {-1, -1, -1, -1};
+        int received = 0;
+        List<long[]> batch = new ArrayList<>();
+        while (received < producers * perProducer) {
+            ring.drainTo(batch, 256);
+            for (long[] item : batch) {
+                // Assert
+                assertThat(item[1]).isEqualTo(lastSeen[(int) item[0]] + 1);
+                lastSeen[(int) item[0]] = item[1];
+            }
+            received += batch.size();
+            batch.clear();
+        }
+        pool.shutdown();
+
+        assertThat(lastSeen).containsOnly(perProducer - 1);
+        assertThat(ring.size()).isZero();
+    }
+}
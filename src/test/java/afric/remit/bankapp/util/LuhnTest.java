@@ -0,0 +1,25 @@
+package afric.remit.bankapp.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LuhnTest {
+
+    @Test
+    void checkDigit_ShouldMatchKnownValues() {
+        // Act & Assert
+        assertThat(Luhn.checkDigit("7992739871")).isEqualTo(3);
+        assertThat(Luhn.isValid("79927398713")).isTrue();
+        assertThat(Luhn.isValid("4111111111111111")).isTrue();
+    }
+
+    @Test
+    void isValid_WhenDigitChangedOrTransposed_ShouldReturnFalse() {
+        // Act & Assert
+        assertThat(Luhn.isValid("79927398714")).isFalse();
+        assertThat(Luhn.isValid("79927398731")).isFalse();
+        assertThat(Luhn.isValid("HOT-1")).isFalse();
+        assertThat(Luhn.isValid(null)).isFalse();
+    }
+}